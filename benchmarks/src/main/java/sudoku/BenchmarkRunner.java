@@ -0,0 +1,33 @@
+package sudoku;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Startet alle Benchmarks mit GC-Profiler und schreibt die Ergebnisse als JSON, damit sie zwischen Releases verglichen werden können.
+ * <p>
+ * Alle üblichen JMH-Optionen werden durchgereicht, z.B. ein Filter auf einzelne Benchmarks oder -rff für eine andere Ergebnisdatei.
+ */
+public class BenchmarkRunner {
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    CommandLineOptions commandLine = new CommandLineOptions(args);
+    ChainedOptionsBuilder options = new OptionsBuilder()
+        .parent(commandLine)
+        .addProfiler(GCProfiler.class);
+    // Angaben auf der Kommandozeile haben Vorrang.
+    if (!commandLine.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLine.getResult().hasValue()) {
+      options.result("jmh-result.json");
+    }
+    new Runner(options.build()).run();
+  }
+}
@@ -0,0 +1,57 @@
+package sudoku;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Misst einen einzelnen SudokuGenerator.generateSudoku() Durchlauf und die komplette Erzeugung mit Wiederholungen über SudokuGenerator.generate().
+ * <p>
+ * Die Seeds der einzelnen Aufrufe stammen aus einer mit seed initialisierten Folge, die zu Beginn jeder Iteration neu startet. So misst jeder Fork und jede
+ * Version dieselben Sudokus mit denselben Wiederholungen. Die Sudokus sind trotzdem verschieden, daher sind mehr Messiterationen nötig als bei den Solvern.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(2)
+public class GeneratorBenchmark {
+
+  @Param({Sudoku.SOLVER_BACKTRACKING, Sudoku.SOLVER_PROPAGATION, Sudoku.SOLVER_DLX})
+  public String engine;
+
+  @Param({"0", "1", "2"})
+  public int difficulty;
+
+  @Param({"20240601"})
+  public long seed;
+
+  private SplittableRandom seeds;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    this.seeds = new SplittableRandom(this.seed);
+  }
+
+  @Benchmark
+  public int[][] generateSudoku() {
+    return new SudokuGenerator(this.difficulty, this.engine, true, Sudoku.DEFAULT_SIZE, this.seeds.nextLong()).generateSudoku();
+  }
+
+  @Benchmark
+  public int[][] generate() {
+    return SudokuGenerator.generate(this.difficulty, this.engine, Sudoku.DEFAULT_SIZE, this.seeds.nextLong(), null).getSudokuMatrix();
+  }
+}
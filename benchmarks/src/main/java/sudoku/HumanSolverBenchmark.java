@@ -0,0 +1,49 @@
+package sudoku;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Misst HumanSolver.getDifficulty() über alle Sudokus einer Gruppe des Korpus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HumanSolverBenchmark {
+
+  @Param({SudokuCorpus.EASY, SudokuCorpus.NORMAL, SudokuCorpus.HARD, SudokuCorpus.HARD_17})
+  public String corpus;
+
+  private int[][][] puzzles;
+  private int[][][] work;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.puzzles = SudokuCorpus.load(this.corpus);
+    this.work = new int[this.puzzles.length][Sudoku.DEFAULT_SIZE][Sudoku.DEFAULT_SIZE];
+  }
+
+  @Benchmark
+  public void getDifficulty(Blackhole blackhole) {
+    for (int i = 0; i < this.puzzles.length; i++) {
+      // Der HumanSolver füllt die übergebene Matrix, daher jedes Mal eine frische Kopie.
+      SudokuCorpus.copy(this.puzzles[i], this.work[i]);
+      blackhole.consume(new HumanSolver(this.work[i]).getDifficulty());
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package sudoku;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Misst Solver.solve() und Solver.fill() über alle Sudokus einer Gruppe des Korpus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SolverBenchmark {
+
+  @Param({Sudoku.SOLVER_BACKTRACKING, Sudoku.SOLVER_PROPAGATION, Sudoku.SOLVER_DLX})
+  public String engine;
+
+  @Param({SudokuCorpus.EASY, SudokuCorpus.NORMAL, SudokuCorpus.HARD, SudokuCorpus.HARD_17})
+  public String corpus;
+
+  private int[][][] puzzles;
+  private int[][][] work;
+  private Solver[] solvers;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.puzzles = SudokuCorpus.load(this.corpus);
+    this.work = new int[this.puzzles.length][Sudoku.DEFAULT_SIZE][Sudoku.DEFAULT_SIZE];
+    this.solvers = new Solver[this.puzzles.length];
+    for (int i = 0; i < this.puzzles.length; i++) {
+      this.solvers[i] = Solver.create(this.engine, this.work[i]);
+    }
+  }
+
+  @Benchmark
+  public void solve(Blackhole blackhole) {
+    for (int i = 0; i < this.puzzles.length; i++) {
+      SudokuCorpus.copy(this.puzzles[i], this.work[i]);
+      blackhole.consume(this.solvers[i].solve());
+    }
+  }
+
+  @Benchmark
+  public void fill(Blackhole blackhole) {
+    for (int i = 0; i < this.puzzles.length; i++) {
+      SudokuCorpus.copy(this.puzzles[i], this.work[i]);
+      blackhole.consume(this.solvers[i].fill());
+    }
+  }
+}
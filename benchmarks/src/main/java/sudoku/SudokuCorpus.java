@@ -0,0 +1,94 @@
+package sudoku;
+
+/**
+ * Feste Sudokus je Schwierigkeitsgrad, damit die Benchmarks über Versionen hinweg vergleichbar bleiben.
+ * <p>
+ * EASY, NORMAL und HARD stammen aus dem Generator und wurden mit dem HumanSolver bewertet. HARD_17 enthält bekannte Sudokus mit 17 bzw. 21 Vorgaben, die für
+ * Backtracking besonders ungünstig sind.
+ */
+final class SudokuCorpus {
+
+  static final String EASY = "EASY";
+  static final String NORMAL = "NORMAL";
+  static final String HARD = "HARD";
+  static final String HARD_17 = "HARD_17";
+
+  private static final String[] EASY_PUZZLES = {
+      "180029400506008700000076508001000000300800000900700046810297000059010200000480097",
+      "000700891070050000000940200460580009030014700708000045000005073053402910040000006",
+      "000004580483700901600091040040006000006007003519020000960040000000000865175080400"
+  };
+
+  private static final String[] NORMAL_PUZZLES = {
+      "290570000006000000000060420500000030700920040010400700804000009600700000050801000",
+      "000008900000260100060009040070006003000005020090080700907000000005003008804090002",
+      "040709850000000060005000270200000000007500100000090040080000016906080003700001090"
+  };
+
+  private static final String[] HARD_PUZZLES = {
+      "000104900098000510000000872400300260860000093700000000500600080000805149001700605",
+      "000000005070530809050170060086290030300658900000703200540300000109000720037060000",
+      "200075064003000050000400270000000020900610800008300001060003040000200600070040000"
+  };
+
+  private static final String[] HARD_17_PUZZLES = {
+      "000000010400000000020000000000050407008000300001090000300400200050100000000806000",
+      "000000012000035000000600070700000300000400800100000000000120000080000040050000600",
+      "000000012003600000000007000410020000000500300700000600280000040000300500000000000",
+      "800000000003600000070090200050007000000045700000100030001000068008500010090000400"
+  };
+
+  private SudokuCorpus() {
+  }
+
+  /**
+   * Gibt die Sudokus einer Gruppe als Matrizen zurück.
+   *
+   * @param name EASY, NORMAL, HARD oder HARD_17.
+   * @return Die Sudokus, leere Felder sind 0.
+   */
+  static int[][][] load(String name) {
+    String[] puzzles;
+    switch (name) {
+      case EASY:
+        puzzles = EASY_PUZZLES;
+        break;
+      case NORMAL:
+        puzzles = NORMAL_PUZZLES;
+        break;
+      case HARD:
+        puzzles = HARD_PUZZLES;
+        break;
+      case HARD_17:
+        puzzles = HARD_17_PUZZLES;
+        break;
+      default:
+        throw new IllegalArgumentException("Unbekannte Gruppe: " + name);
+    }
+    int[][][] matrices = new int[puzzles.length][][];
+    for (int i = 0; i < puzzles.length; i++) {
+      matrices[i] = parse(puzzles[i]);
+    }
+    return matrices;
+  }
+
+  /**
+   * Kopiert eine Matrix in eine bereits angelegte Matrix gleicher Größe.
+   *
+   * @param source Quelle.
+   * @param target Ziel.
+   */
+  static void copy(int[][] source, int[][] target) {
+    for (int row = 0; row < source.length; row++) {
+      System.arraycopy(source[row], 0, target[row], 0, source[row].length);
+    }
+  }
+
+  private static int[][] parse(String puzzle) {
+    int[][] matrix = new int[Sudoku.DEFAULT_SIZE][Sudoku.DEFAULT_SIZE];
+    for (int i = 0; i < puzzle.length(); i++) {
+      matrix[i / Sudoku.DEFAULT_SIZE][i % Sudoku.DEFAULT_SIZE] = puzzle.charAt(i) - '0';
+    }
+    return matrix;
+  }
+}
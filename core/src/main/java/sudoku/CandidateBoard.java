@@ -0,0 +1,148 @@
+package sudoku;
+
+/**
+ * Der Stand eines Sudokus während des Spielens, mit Zählern wie oft jede Zahl in jeder Einheit steht.
+ * <p>
+ * Setzen und Löschen einer Zahl ändert nur die Zähler der drei Einheiten des Feldes. Die Kandidaten eines Feldes ergeben sich daraus mit drei Bitmasken, ohne dass
+ * Nachbarfelder durchsucht werden müssen. Auch widersprüchliche Eingaben werden richtig gezählt, eine Zahl ist erst wieder frei wenn alle Vorkommen gelöscht sind.
+ * Ob ein Feld im Konflikt steht und ob das Sudoku gelöst ist, folgt ebenso ohne Durchsuchen des Boards aus den Zählern.
+ */
+class CandidateBoard {
+
+  private final SudokuGeometry geometry;
+  // Das Sudoku als flaches Array, 0 für leere Felder.
+  private final int[] cells;
+  // Vorkommen jeder Zahl je Einheit, Index Einheit * (size + 1) + Zahl.
+  private final int[] counts;
+  // Die in jeder Einheit mindestens einmal stehenden Zahlen als Bitmaske.
+  private final int[] unitMasks;
+  // Paare aus Einheit und Zahl, bei denen die Zahl mehrfach in der Einheit steht.
+  private int duplicates;
+  private int filled;
+
+  /**
+   * @param size Die Anzahl der Reihen.
+   */
+  CandidateBoard(int size) {
+    this.geometry = SudokuGeometry.of(size);
+    this.cells = new int[this.geometry.cells];
+    this.counts = new int[this.geometry.units.length * (size + 1)];
+    this.unitMasks = new int[this.geometry.units.length];
+  }
+
+  SudokuGeometry getGeometry() {
+    return this.geometry;
+  }
+
+  /**
+   * @param cell Das Feld.
+   * @return Die Zahl im Feld, 0 wenn es leer ist.
+   */
+  int get(int cell) {
+    return this.cells[cell];
+  }
+
+  /**
+   * Setzt oder löscht eine Zahl.
+   *
+   * @param cell Das Feld.
+   * @param number Die Zahl, 0 zum Löschen.
+   * @return True wenn sich das Feld geändert hat.
+   */
+  boolean set(int cell, int number) {
+    int previous = this.cells[cell];
+    if (previous == number) {
+      return false;
+    }
+    int stride = this.geometry.size + 1;
+    for (int unit : this.geometry.unitsOf[cell]) {
+      if (previous != 0) {
+        int count = --this.counts[unit * stride + previous];
+        if (count == 0) {
+          this.unitMasks[unit] &= ~(1 << previous);
+        } else if (count == 1) {
+          this.duplicates--;
+        }
+      }
+      if (number != 0) {
+        int count = this.counts[unit * stride + number]++;
+        if (count == 0) {
+          this.unitMasks[unit] |= 1 << number;
+        } else if (count == 1) {
+          this.duplicates++;
+        }
+      }
+    }
+    this.filled += (number != 0 ? 1 : 0) - (previous != 0 ? 1 : 0);
+    this.cells[cell] = number;
+    return true;
+  }
+
+  /**
+   * Übernimmt die Felder einer Matrix, die sich geändert haben.
+   *
+   * @param sudokuMatrix Die Matrix in der Größe des Boards.
+   * @return Die Anzahl der geänderten Felder.
+   */
+  int sync(int[][] sudokuMatrix) {
+    int changed = 0;
+    for (int cell = 0; cell < this.cells.length; cell++) {
+      if (this.set(cell, sudokuMatrix[this.geometry.rowOf[cell]][this.geometry.columnOf[cell]])) {
+        changed++;
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * @param cell Das Feld.
+   * @return Die Zahlen die weder in Reihe, Spalte noch Block stehen als Bitmaske, 0 für gefüllte Felder.
+   */
+  int candidates(int cell) {
+    if (this.cells[cell] != 0) {
+      return 0;
+    }
+    int[] units = this.geometry.unitsOf[cell];
+    return ~(this.unitMasks[units[0]] | this.unitMasks[units[1]] | this.unitMasks[units[2]]) & this.geometry.allNumbers;
+  }
+
+  /**
+   * @param cell Das Feld.
+   * @return True wenn die Zahl des Feldes in Reihe, Spalte oder Block noch einmal steht.
+   */
+  boolean isConflict(int cell) {
+    int number = this.cells[cell];
+    if (number == 0) {
+      return false;
+    }
+    int stride = this.geometry.size + 1;
+    for (int unit : this.geometry.unitsOf[cell]) {
+      if (this.counts[unit * stride + number] > 1) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return True wenn irgendeine Zahl mehrfach in einer Einheit steht.
+   */
+  boolean hasConflicts() {
+    return this.duplicates != 0;
+  }
+
+  /**
+   * @return True wenn alle Felder gefüllt sind und keine Zahl doppelt in einer Einheit steht, das Sudoku also gelöst ist.
+   */
+  boolean isSolved() {
+    return this.filled == this.cells.length && this.duplicates == 0;
+  }
+
+  /**
+   * @param unit Die Einheit wie in SudokuGeometry.units.
+   * @return Die in der Einheit stehenden Zahlen als Bitmaske.
+   */
+  int unitMask(int unit) {
+    return this.unitMasks[unit];
+  }
+}
@@ -0,0 +1,371 @@
+package sudoku;
+
+import java.util.Arrays;
+
+/**
+ * Löst das Sudoku als Exact-Cover-Problem mit Knuths Algorithmus X (Dancing Links).
+ * <p>
+ * Jede Zeile der Matrix steht für eine Nummer in einem Feld, jede der 4 * size * size Spalten für eine Bedingung: Feld belegt, Nummer in Reihe, Nummer in Spalte und Nummer in Block.
+ * Die Knoten liegen in primitiven Arrays und werden einmal pro Solver und Größe aufgebaut, vorgegebene Zahlen werden vor der Suche abgedeckt und danach wieder aufgedeckt.
+ * Durch die Wahl der Spalte mit den wenigsten Kandidaten bleibt die Suche auch bei 16 * 16 und 25 * 25 Feldern schnell.
+ */
+class DancingLinksSolver implements Solver {
+
+  // Knoten 0 ist die Wurzel, danach folgen die Spaltenköpfe und dann je vier Knoten pro Zeile.
+  private static final int ROOT = 0;
+
+  private int size;
+  private int cells;
+  private int columns;
+  private int firstRowNode;
+
+  private int[] left;
+  private int[] right;
+  private int[] up;
+  private int[] down;
+  private int[] columnOf;
+  private int[] columnSize;
+  private boolean[] covered;
+
+  // Die aktuell gewählten Zeilen der Suche.
+  private int[] chosenRows;
+  private int chosenCount;
+  private boolean writeSolution;
+  // True sobald eine Lösung in die Sudokumatrix geschrieben wurde.
+  private boolean solutionWritten;
+  // Suchschritte und Laufzeit je Lauf, 0 für unbegrenzt.
+  private long searchLimit;
+  private long searchTimeout;
+  private long deadline;
+  private long steps;
+  // True wenn der letzte Lauf nach Suchschritten oder Laufzeit abgebrochen wurde.
+  private boolean exhausted;
+  // Besuchte Knoten und Rücknahmen über alle Aufrufe, für SudokuMetrics und JFR.
+  private long nodes;
+  private long backtracks;
+
+  private int[][] sudokuMatrix;
+
+  DancingLinksSolver(int[][] sudokuMatrix) {
+    this.sudokuMatrix = sudokuMatrix;
+    this.buildMatrix(sudokuMatrix.length);
+  }
+
+  @Override
+  public int[][] getSudokuMatrix() {
+    return this.sudokuMatrix;
+  }
+
+  @Override
+  public void setSudokuMatrix(int[][] sudokuMatrix) {
+    this.sudokuMatrix = sudokuMatrix;
+    if (sudokuMatrix.length != this.size) {
+      this.buildMatrix(sudokuMatrix.length);
+    }
+  }
+
+  @Override
+  public boolean isUnique() {
+    return this.solve() == 1;
+  }
+
+  @Override
+  public int solve() {
+    return this.run(2, false);
+  }
+
+  @Override
+  public int solveAndFill() {
+    this.solutionWritten = false;
+    int solutions = this.run(2, true);
+    return this.exhausted ? UNDECIDED : solutions;
+  }
+
+  @Override
+  public boolean isSolvable() {
+    return this.run(1, false) == 1;
+  }
+
+  @Override
+  public boolean fill() {
+    long limit = this.searchLimit;
+    long timeout = this.searchTimeout;
+    // Eine Lösung muss wirklich gefunden werden.
+    this.searchLimit = 0;
+    this.searchTimeout = 0;
+    try {
+      return this.run(1, true) == 1;
+    } finally {
+      this.searchLimit = limit;
+      this.searchTimeout = timeout;
+    }
+  }
+
+  @Override
+  public void setSearchLimit(long steps) {
+    this.searchLimit = steps;
+  }
+
+  @Override
+  public void setSearchTimeout(long nanos) {
+    this.searchTimeout = nanos;
+  }
+
+  @Override
+  public long getSearchNodes() {
+    return this.nodes;
+  }
+
+  @Override
+  public long getSearchBacktracks() {
+    return this.backtracks;
+  }
+
+  /**
+   * Deckt die vorgegebenen Zahlen ab, sucht Lösungen und stellt die Matrix danach wieder her.
+   *
+   * @param limit Maximale Anzahl an Lösungen nach der abgebrochen wird.
+   * @param writeSolution True wenn die erste Lösung in die Sudokumatrix geschrieben werden soll, weitere Lösungen werden nur gezählt.
+   * @return Die Anzahl der gefundenen Lösungen.
+   */
+  private int run(int limit, boolean writeSolution) {
+    boolean measured = SudokuMetrics.enabled;
+    long start = measured || this.searchTimeout > 0 ? System.nanoTime() : 0;
+    long nodes = this.nodes;
+    long backtracks = this.backtracks;
+    this.writeSolution = writeSolution;
+    this.chosenCount = 0;
+    this.steps = 0;
+    this.exhausted = false;
+    this.deadline = this.searchTimeout > 0 ? start + this.searchTimeout : 0;
+    int[] givenRows = new int[cells];
+    int givenCount = 0;
+    boolean consistent = true;
+    for (int row = 0; row < size && consistent; row++) {
+      for (int column = 0; column < size && consistent; column++) {
+        int number = sudokuMatrix[row][column];
+        if (number != 0) {
+          int matrixRow = (row * size + column) * size + number - 1;
+          // Zwei Vorgaben die sich widersprechen haben keine Lösung.
+          consistent = this.selectRow(matrixRow);
+          if (consistent) {
+            givenRows[givenCount++] = matrixRow;
+          }
+        }
+      }
+    }
+
+    int solutions = consistent ? this.search(0, limit) : 0;
+
+    for (int i = givenCount - 1; i >= 0; i--) {
+      this.deselectRow(givenRows[i]);
+    }
+    if (this.exhausted && this.solutionWritten) {
+      // Eine abgebrochene Suche lässt die Sudokumatrix unverändert, also wieder nur die Vorgaben.
+      for (int[] row : sudokuMatrix) {
+        Arrays.fill(row, 0);
+      }
+      for (int i = 0; i < givenCount; i++) {
+        int cell = givenRows[i] / size;
+        sudokuMatrix[cell / size][cell % size] = givenRows[i] % size + 1;
+      }
+      this.solutionWritten = false;
+    }
+    if (measured) {
+      SudokuMetrics.recordSearch(this.nodes - nodes, this.backtracks - backtracks, System.nanoTime() - start);
+    }
+    return solutions;
+  }
+
+  /**
+   * Algorithmus X: wählt die Spalte mit den wenigsten Kandidaten und probiert deren Zeilen aus.
+   *
+   * @param solutions Gefundene Lösungen.
+   * @param limit Maximale Anzahl an Lösungen.
+   * @return Die Anzahl der gefundenen Lösungen.
+   */
+  private int search(int solutions, int limit) {
+    nodes++;
+    steps++;
+    // Die Uhr wird nur alle 256 Knoten abgefragt.
+    if (searchLimit > 0 && steps > searchLimit || deadline != 0 && (steps & 0xFF) == 0 && System.nanoTime() - deadline >= 0) {
+      // Abbruch zählt als genug Lösungen, siehe Solver.setSearchLimit().
+      exhausted = true;
+      return limit;
+    }
+    if (right[ROOT] == ROOT) {
+      if (writeSolution && solutions == 0) {
+        this.writeChosenRows();
+        this.solutionWritten = true;
+      }
+      return solutions + 1;
+    }
+
+    int column = right[ROOT];
+    // Bei einer Spalte mit höchstens einem Kandidaten gibt es nichts Besseres, das spart bei großen Sudokus die meisten der bis zu 2500 Vergleiche.
+    for (int c = right[column]; c != ROOT && columnSize[column] > 1; c = right[c]) {
+      if (columnSize[c] < columnSize[column]) {
+        column = c;
+      }
+    }
+    if (columnSize[column] == 0) {
+      return solutions;
+    }
+
+    this.cover(column);
+    for (int node = down[column]; node != column && solutions < limit; node = down[node]) {
+      chosenRows[chosenCount++] = (node - firstRowNode) / 4;
+      for (int j = right[node]; j != node; j = right[j]) {
+        this.cover(columnOf[j]);
+      }
+      int found = this.search(solutions, limit);
+      if (found == solutions) {
+        backtracks++;
+      }
+      solutions = found;
+      for (int j = left[node]; j != node; j = left[j]) {
+        this.uncover(columnOf[j]);
+      }
+      chosenCount--;
+    }
+    this.uncover(column);
+    return solutions;
+  }
+
+  /**
+   * Übernimmt eine Zeile fest in die Lösung, indem alle ihre Spalten abgedeckt werden.
+   *
+   * @param matrixRow Die Zeile der Exact-Cover-Matrix.
+   * @return False wenn eine der Spalten schon durch eine andere Zeile abgedeckt ist.
+   */
+  private boolean selectRow(int matrixRow) {
+    int first = firstRowNode + 4 * matrixRow;
+    for (int i = 0; i < 4; i++) {
+      if (covered[columnOf[first + i]]) {
+        return false;
+      }
+    }
+    for (int i = 0; i < 4; i++) {
+      this.cover(columnOf[first + i]);
+    }
+    return true;
+  }
+
+  /**
+   * Nimmt eine mit selectRow übernommene Zeile wieder zurück.
+   *
+   * @param matrixRow Die Zeile der Exact-Cover-Matrix.
+   */
+  private void deselectRow(int matrixRow) {
+    int first = firstRowNode + 4 * matrixRow;
+    for (int i = 3; i >= 0; i--) {
+      this.uncover(columnOf[first + i]);
+    }
+  }
+
+  /**
+   * Entfernt eine Spalte und alle Zeilen die sie ebenfalls abdecken.
+   *
+   * @param column Die Spalte.
+   */
+  private void cover(int column) {
+    covered[column] = true;
+    left[right[column]] = left[column];
+    right[left[column]] = right[column];
+    for (int i = down[column]; i != column; i = down[i]) {
+      for (int j = right[i]; j != i; j = right[j]) {
+        up[down[j]] = up[j];
+        down[up[j]] = down[j];
+        columnSize[columnOf[j]]--;
+      }
+    }
+  }
+
+  /**
+   * Macht cover() in umgekehrter Reihenfolge rückgängig.
+   *
+   * @param column Die Spalte.
+   */
+  private void uncover(int column) {
+    for (int i = up[column]; i != column; i = up[i]) {
+      for (int j = left[i]; j != i; j = left[j]) {
+        columnSize[columnOf[j]]++;
+        up[down[j]] = j;
+        down[up[j]] = j;
+      }
+    }
+    left[right[column]] = column;
+    right[left[column]] = column;
+    covered[column] = false;
+  }
+
+  /**
+   * Schreibt die gewählten Zeilen als Zahlen in die Sudokumatrix.
+   */
+  private void writeChosenRows() {
+    for (int i = 0; i < chosenCount; i++) {
+      int cell = chosenRows[i] / size;
+      sudokuMatrix[cell / size][cell % size] = chosenRows[i] % size + 1;
+    }
+  }
+
+  /**
+   * Baut die Exact-Cover-Matrix mit allen size * size * size Zeilen auf.
+   *
+   * @param size Die Anzahl der Reihen des Sudokus.
+   */
+  private void buildMatrix(int size) {
+    SudokuGeometry geometry = SudokuGeometry.of(size);
+    this.size = size;
+    this.cells = geometry.cells;
+    this.columns = 4 * cells;
+    this.firstRowNode = columns + 1;
+    int nodes = firstRowNode + 4 * cells * size;
+    left = new int[nodes];
+    right = new int[nodes];
+    up = new int[nodes];
+    down = new int[nodes];
+    columnOf = new int[nodes];
+    columnSize = new int[columns + 1];
+    covered = new boolean[columns + 1];
+    chosenRows = new int[cells];
+
+    for (int c = 0; c <= columns; c++) {
+      left[c] = c == 0 ? columns : c - 1;
+      right[c] = c == columns ? 0 : c + 1;
+      up[c] = c;
+      down[c] = c;
+      columnOf[c] = c;
+    }
+
+    for (int row = 0; row < size; row++) {
+      for (int column = 0; column < size; column++) {
+        int block = geometry.blockOf(row, column);
+        for (int number = 0; number < size; number++) {
+          int matrixRow = (row * size + column) * size + number;
+          int first = firstRowNode + 4 * matrixRow;
+          // Spalten sind 1-basiert, da 0 die Wurzel ist.
+          int[] constraints = {
+              1 + row * size + column,
+              1 + cells + row * size + number,
+              1 + 2 * cells + column * size + number,
+              1 + 3 * cells + block * size + number
+          };
+          for (int i = 0; i < 4; i++) {
+            int node = first + i;
+            int header = constraints[i];
+            left[node] = i == 0 ? first + 3 : node - 1;
+            right[node] = i == 3 ? first : node + 1;
+            // Unten an die Spalte anhängen.
+            up[node] = up[header];
+            down[node] = header;
+            down[up[header]] = node;
+            up[header] = node;
+            columnOf[node] = header;
+            columnSize[header]++;
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package sudoku;
+
+import java.util.OptionalLong;
+
+/**
+ * Ein fertig erzeugtes Sudoku mit Lösung und ermitteltem Schwierigkeitsgrad.
+ */
+class GeneratedSudoku {
+
+  private final int[][] sudokuMatrix;
+  private final int[][] sudokuMatrixSolution;
+  private final int difficulty;
+  private final int rating;
+  private final OptionalLong seed;
+
+  GeneratedSudoku(int[][] sudokuMatrix, int[][] sudokuMatrixSolution, int difficulty, int rating) {
+    this(sudokuMatrix, sudokuMatrixSolution, difficulty, rating, OptionalLong.empty());
+  }
+
+  /**
+   * @param sudokuMatrix Das Sudoku mit den Vorgaben.
+   * @param sudokuMatrixSolution Die Lösung.
+   * @param difficulty Der Schwierigkeitsgrad.
+   * @param rating Die Bewertung des HumanSolvers.
+   * @param seed Der Seed aus dem SudokuGenerator.regenerate() das Sudoku wieder erzeugt, leer wenn es z.B. durch eine Symmetrie abgeleitet wurde.
+   */
+  GeneratedSudoku(int[][] sudokuMatrix, int[][] sudokuMatrixSolution, int difficulty, int rating, OptionalLong seed) {
+    this.sudokuMatrix = sudokuMatrix;
+    this.sudokuMatrixSolution = sudokuMatrixSolution;
+    this.difficulty = difficulty;
+    this.rating = rating;
+    this.seed = seed;
+  }
+
+  /**
+   * Gibt das Sudoku mit den Vorgaben zurück, leere Felder sind 0.
+   *
+   * @return Die Sudokumatrix.
+   */
+  int[][] getSudokuMatrix() {
+    return this.sudokuMatrix;
+  }
+
+  /**
+   * Gibt das gelöste Sudoku zurück.
+   *
+   * @return Die Lösungsmatrix.
+   */
+  int[][] getSudokuMatrixSolution() {
+    return this.sudokuMatrixSolution;
+  }
+
+  /**
+   * Gibt den vom HumanSolver ermittelten Schwierigkeitsgrad zurück.
+   *
+   * @return Der Schwierigkeitsgrad.
+   */
+  int getDifficulty() {
+    return this.difficulty;
+  }
+
+  /**
+   * Gibt die Bewertung des HumanSolvers zurück, feiner als der Schwierigkeitsgrad.
+   *
+   * @return Die Bewertung.
+   */
+  int getRating() {
+    return this.rating;
+  }
+
+  /**
+   * Gibt den Seed zurück, aus dem SudokuGenerator.regenerate() mit gleichem Schwierigkeitsgrad, Lösungsverfahren und gleicher Größe genau dieses Sudoku erzeugt.
+   * Das gilt nur solange SudokuGenerator.SEED_VERSION gleich bleibt, gespeicherte Seeds brauchen deshalb auch die Version.
+   * Statt des Sudokus reichen zum Speichern also 64 Bit.
+   *
+   * @return Der Seed, leer wenn das Sudoku nicht direkt erzeugt wurde.
+   */
+  OptionalLong getSeed() {
+    return this.seed;
+  }
+
+  /**
+   * Kopiert Sudoku und Lösung, z.B. wenn das Original an einen Spieler geht, der seine Zahlen in die Matrix schreibt.
+   *
+   * @return Eine unabhängige Kopie mit gleichem Schwierigkeitsgrad, gleicher Bewertung und gleichem Seed.
+   */
+  GeneratedSudoku copy() {
+    return new GeneratedSudoku(copyMatrix(this.sudokuMatrix), copyMatrix(this.sudokuMatrixSolution), this.difficulty, this.rating, this.seed);
+  }
+
+  private static int[][] copyMatrix(int[][] matrix) {
+    int[][] copy = new int[matrix.length][];
+    for (int row = 0; row < matrix.length; row++) {
+      copy[row] = matrix[row].clone();
+    }
+    return copy;
+  }
+}
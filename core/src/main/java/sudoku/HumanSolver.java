@@ -0,0 +1,701 @@
+package sudoku;
+
+import java.util.Arrays;
+
+/**
+ * Löst ein Sudoku mit den Techniken eines menschlichen Spielers und bewertet es danach.
+ * <p>
+ * Die Techniken stehen in einer Tabelle, geordnet nach ihren Kosten. Es wird immer die billigste Technik angewendet, die noch etwas bewirkt, danach geht es wieder
+ * von vorne los. Jede Anwendung trägt die Kosten der Technik zur Bewertung bei, aus der sich der Schwierigkeitsgrad ergibt.
+ * <p>
+ * Eine Technik wird in Runden angewendet: Alle Anwendungen einer Runde werden auf dem Stand vor der Runde gefunden und erst danach eingetragen. So hängt die
+ * Bewertung nicht davon ab, welche Felder zuerst durchsucht werden, und ist für alle Varianten aus SudokuTransform gleich.
+ */
+class HumanSolver {
+
+  // Die Grenzen der Bewertung gelten für 9 * 9 Felder und wachsen mit der Anzahl der Felder.
+  private static final int NORMAL_RATING = 65;
+  private static final int HARD_RATING = 90;
+
+  // Die Techniken in der Reihenfolge in der sie probiert werden, die billigste zuerst.
+  private static final Stage[] PIPELINE = {
+      new Stage(SudokuTechnique.NAKED_SINGLE, HumanSolver::applyNakedSingles),
+      new Stage(SudokuTechnique.HIDDEN_SINGLE, HumanSolver::applyHiddenSingles),
+      new Stage(SudokuTechnique.NAKED_PAIR, HumanSolver::applyNakedPairs),
+      new Stage(SudokuTechnique.POINTING_PAIR, HumanSolver::applyPointingPairs),
+      new Stage(SudokuTechnique.BOX_LINE_REDUCTION, HumanSolver::applyBoxLineReductions),
+      new Stage(SudokuTechnique.HIDDEN_PAIR, solver -> solver.applyHiddenSubsets(2)),
+      new Stage(SudokuTechnique.HIDDEN_TRIPLE, solver -> solver.applyHiddenSubsets(3)),
+      new Stage(SudokuTechnique.X_WING, solver -> solver.applyFish(2)),
+      new Stage(SudokuTechnique.SWORDFISH, solver -> solver.applyFish(3)),
+  };
+
+  // Aufbau des Sudokus, die Tabellen werden zwischen allen HumanSolvern gleicher Größe geteilt.
+  private final SudokuGeometry geometry;
+  private final int[] rowOf;
+  private final int[] columnOf;
+  private final int[][] units;
+  private final int[][] unitsOf;
+  private final int[][] peers;
+
+  private int[][] sudokuMatrix;
+  // Das Sudoku als flaches Array, 0 für leere Felder.
+  private final int[] cells;
+  // Die möglichen Lösungen jedes leeren Feldes als Bitmaske, 0 für gefüllte Felder. Bleibt über alle Durchläufe erhalten.
+  private final int[] candidates;
+  // Felder mit nur noch einer möglichen Lösung, in der Reihenfolge in der sie entstanden sind.
+  private final int[] singles;
+  private int singlesCount;
+  // Anzahl der noch leeren Felder.
+  private int empty;
+  // Einheiten deren Kandidaten sich seit der letzten Suche nach Hidden Singles bzw. Naked Pairs geändert haben.
+  private final UnitQueue hiddenSingleQueue;
+  private final UnitQueue nakedPairQueue;
+  // Je Einheit und Zahl die Positionen in der Einheit an denen die Zahl noch möglich ist, siehe updatePositions().
+  private final int[][] positions;
+  private boolean positionsChanged = true;
+  // Positionen einer Reihe im Block bzw. eines Blocks in einer Reihe oder Spalte, und die einer Spalte im Block.
+  private final int[] segments;
+  private final int[] blockColumns;
+  // Während einer Runde ausgeschlossene Kandidaten je Feld, eingetragen erst von flushRemovals(), und die Felder mit solchen Kandidaten.
+  private final int[] pendingRemovals;
+  private final int[] removalCells;
+  private int removalCount;
+  // Von applyHiddenSingles() gefundene Zahlen je Feld, gesetzt erst am Ende der Runde.
+  private final int[] pendingNumbers;
+  private final int[] placementCells;
+  // Die Kandidaten der aktuellen Kombinationssuche mit ihren Positionen.
+  private final int[] choices;
+  private final int[] choiceMasks;
+  // Summe der Kosten aller angewendeten Techniken.
+  private int rating;
+  // Anwendungen je Technik, Index SudokuTechnique.ordinal().
+  private final int[] hits = new int[SudokuTechnique.values().length];
+  private boolean solved;
+
+
+  HumanSolver(int[][] sudokuMatrix) {
+    this.sudokuMatrix = sudokuMatrix;
+    this.geometry = SudokuGeometry.of(sudokuMatrix);
+    this.rowOf = this.geometry.rowOf;
+    this.columnOf = this.geometry.columnOf;
+    this.units = this.geometry.units;
+    this.unitsOf = this.geometry.unitsOf;
+    this.peers = this.geometry.peers;
+    this.cells = new int[this.geometry.cells];
+    this.candidates = new int[this.geometry.cells];
+    this.singles = new int[this.geometry.cells];
+    this.pendingRemovals = new int[this.geometry.cells];
+    this.removalCells = new int[this.geometry.cells];
+    this.pendingNumbers = new int[this.geometry.cells];
+    this.placementCells = new int[this.geometry.cells];
+    this.hiddenSingleQueue = new UnitQueue(this.units.length);
+    this.nakedPairQueue = new UnitQueue(this.units.length);
+    this.positions = new int[this.units.length][this.geometry.size + 1];
+    this.segments = new int[this.geometry.blockSize];
+    this.blockColumns = new int[this.geometry.blockSize];
+    for (int i = 0; i < this.geometry.blockSize; i++) {
+      this.segments[i] = ((1 << this.geometry.blockSize) - 1) << (i * this.geometry.blockSize);
+      for (int row = 0; row < this.geometry.blockSize; row++) {
+        this.blockColumns[i] |= 1 << (row * this.geometry.blockSize + i);
+      }
+    }
+    this.choices = new int[this.geometry.size];
+    this.choiceMasks = new int[this.geometry.size];
+    for (int cell = 0; cell < this.geometry.cells; cell++) {
+      this.cells[cell] = sudokuMatrix[this.rowOf[cell]][this.columnOf[cell]];
+      if (this.cells[cell] == 0) {
+        this.empty++;
+      }
+    }
+  }
+
+  /**
+   * Errmittelt den Schwierigkeitsgrad
+   * <p>
+   * HARD sind Sudokus die sich mit den Techniken nicht lösen lassen oder deren Bewertung über HARD_RATING liegt, NORMAL die über NORMAL_RATING.
+   *
+   * @return Schwierigkeitsgrad
+   */
+  int getDifficulty() {
+    this.solve();
+    if (!this.isSolved() || this.rating > HARD_RATING * this.geometry.cells / 81) {
+      return Sudoku.HARD;
+    }
+    if (this.rating > NORMAL_RATING * this.geometry.cells / 81) {
+      return Sudoku.NORMAL;
+    }
+    return Sudoku.EASY;
+  }
+
+  /**
+   * Ermittelt die Bewertung, also die Summe der Kosten aller Techniken die zum Lösen angewendet wurden. Feiner als der Schwierigkeitsgrad, z.B. für engere Bereiche
+   * innerhalb eines Schwierigkeitsgrades.
+   *
+   * @return Die Bewertung, bei ungelösten Sudokus nur bis zu der Stelle an der keine Technik mehr weiterkam.
+   */
+  int getRating() {
+    this.solve();
+    return this.rating;
+  }
+
+  /**
+   * @return True wenn die Techniken das Sudoku vollständig gelöst haben.
+   */
+  boolean isSolvedByTechniques() {
+    this.solve();
+    return this.isSolved();
+  }
+
+  /**
+   * Löst das Sudoku so weit es die Techniken erlauben, beim ersten Aufruf.
+   * <p>
+   * Die Kandidaten werden nur einmal ermittelt und danach bei jedem Setzen einer Zahl in den Nachbarfeldern nachgeführt. Hidden Singles und Naked Pairs werden nur in
+   * Einheiten gesucht, deren Kandidaten sich seit der letzten Suche geändert haben.
+   */
+  private void solve() {
+    if (this.solved) {
+      return;
+    }
+    this.solved = true;
+    findPossibleSolutions();
+    int stage = 0;
+    // Ist das Sudoku gelöst, bringen auch die übrigen Techniken nichts mehr.
+    while (stage < PIPELINE.length && this.empty > 0) {
+      int applied = PIPELINE[stage].step.apply(this);
+      this.flushRemovals();
+      if (applied == 0) {
+        stage++;
+        continue;
+      }
+      SudokuTechnique technique = PIPELINE[stage].technique;
+      this.hits[technique.ordinal()] += applied;
+      this.rating += applied * technique.getCost();
+      stage = 0;
+    }
+    if (SudokuMetrics.enabled) {
+      SudokuMetrics.recordGrade(this.hits);
+    }
+  }
+
+  /**
+   * Überprüft ob das Sudoku noch ungelöst Felder enthält
+   *
+   * @return true|false
+   */
+  private boolean isSolved() {
+    return this.empty == 0;
+  }
+
+  /**
+   * Setzt für die Felder die nur noch über eine Lösungen verfügen die entsprechende Zahl ein
+   * <p>
+   * Es werden nur die Felder gesetzt die beim Aufruf schon feststanden. Felder die erst durch das Setzen entstehen, zählen zum nächsten Durchlauf.
+   *
+   * @return Die Anzahl der gesetzten Zahlen.
+   */
+  private int applyNakedSingles() {
+    int placed = 0;
+    int count = this.singlesCount;
+    for (int i = 0; i < count; i++) {
+      int cell = this.singles[i];
+      int possibleSolutions = this.candidates[cell];
+      // Das Feld kann inzwischen schon gesetzt oder durch einen Widerspruch leer sein.
+      if (this.cells[cell] == 0 && possibleSolutions != 0 && (possibleSolutions & (possibleSolutions - 1)) == 0) {
+        this.place(cell, Integer.numberOfTrailingZeros(possibleSolutions));
+        placed++;
+      }
+    }
+    // Die neu entstandenen Felder nach vorne holen.
+    System.arraycopy(this.singles, count, this.singles, 0, this.singlesCount - count);
+    this.singlesCount -= count;
+    return placed;
+  }
+
+  /**
+   * Hidden Single bedeutet, dass es für eine bestimmte Ziffer in einem bestimmten Haus nur noch eine Zelle gibt, wo diese Ziffer möglich ist. Für die Zelle selbst sind noch mehrere Kandidaten
+   * möglich, die richtige Ziffer ist also zwischen den anderen Kandidaten versteckt.
+   *
+   * @return Die Anzahl der gesetzten Zahlen.
+   */
+  private int applyHiddenSingles() {
+    int placed = 0;
+    // Gesetzt wird erst nach der Suche, Einheiten die dadurch neu vorgemerkt werden, kommen im nächsten Durchlauf dran.
+    for (int i = this.hiddenSingleQueue.size(); i > 0; i--) {
+      int[] unit = this.units[this.hiddenSingleQueue.poll()];
+      int once = 0;
+      int twice = 0;
+      for (int cell : unit) {
+        twice |= once & this.candidates[cell];
+        once |= this.candidates[cell];
+      }
+      int single = once & ~twice;
+      while (single != 0) {
+        int bit = Integer.lowestOneBit(single);
+        single &= single - 1;
+        for (int cell : unit) {
+          // Ein Feld kann zugleich in Reihe, Spalte und Block versteckt sein und zählt dann nur einmal. Mehrere einzelne Zahlen im selben Feld gibt es nur bei
+          // widersprüchlichen Sudokus, dann gilt die zuerst gefundene.
+          if ((this.candidates[cell] & bit) != 0) {
+            if (this.pendingNumbers[cell] == 0) {
+              this.pendingNumbers[cell] = Integer.numberOfTrailingZeros(bit);
+              this.placementCells[placed++] = cell;
+            }
+            break;
+          }
+        }
+      }
+    }
+    for (int i = 0; i < placed; i++) {
+      int cell = this.placementCells[i];
+      this.place(cell, this.pendingNumbers[cell]);
+      this.pendingNumbers[cell] = 0;
+    }
+    return placed;
+  }
+
+  /**
+   * A Naked Pair is a set of two candidate numbers sited in two cells that belong to at least one unit in common. That is, they reside in the same row, column or box.
+   *
+   * @return Die Anzahl der Paare die Kandidaten ausgeschlossen haben.
+   */
+  private int applyNakedPairs() {
+    int applied = 0;
+    for (int k = this.nakedPairQueue.size(); k > 0; k--) {
+      int[] unit = this.units[this.nakedPairQueue.poll()];
+      for (int i = 0; i < this.geometry.size; i++) {
+        int pair = this.candidates[unit[i]];
+        if (Integer.bitCount(pair) != 2) {
+          continue;
+        }
+        for (int j = i + 1; j < this.geometry.size; j++) {
+          if (this.candidates[unit[j]] == pair) {
+            boolean eliminated = false;
+            // Die beiden Zahlen können in keinem anderen Feld der Einheit stehen.
+            for (int cell : unit) {
+              if (this.candidates[cell] != pair) {
+                eliminated |= this.removeCandidates(cell, pair);
+              }
+            }
+            if (eliminated) {
+              applied++;
+            }
+          }
+        }
+      }
+    }
+    return applied;
+  }
+
+  /**
+   * Steht eine Zahl innerhalb eines Blocks nur in einer Reihe oder Spalte, muss sie dort im Block stehen und fällt im Rest der Reihe oder Spalte weg.
+   *
+   * @return Die Anzahl der Anwendungen die Kandidaten ausgeschlossen haben.
+   */
+  private int applyPointingPairs() {
+    this.updatePositions();
+    int blockSize = this.geometry.blockSize;
+    int applied = 0;
+    for (int block = 0; block < this.geometry.size; block++) {
+      int[] blockPositions = this.positions[this.geometry.blocks + block];
+      int firstRow = block / blockSize * blockSize;
+      int firstColumn = block % blockSize * blockSize;
+      for (int number = 1; number <= this.geometry.size; number++) {
+        int mask = blockPositions[number];
+        if (Integer.bitCount(mask) < 2) {
+          continue;
+        }
+        for (int i = 0; i < blockSize; i++) {
+          int line = -1;
+          if ((mask & ~this.segments[i]) == 0) {
+            line = this.geometry.rows + firstRow + i;
+          } else if ((mask & ~this.blockColumns[i]) == 0) {
+            line = this.geometry.columns + firstColumn + i;
+          }
+          if (line >= 0) {
+            if (this.removeOutside(this.units[line], this.geometry.blocks + block, 1 << number)) {
+              applied++;
+            }
+            break;
+          }
+        }
+      }
+    }
+    return applied;
+  }
+
+  /**
+   * Steht eine Zahl innerhalb einer Reihe oder Spalte nur in einem Block, muss sie dort stehen und fällt im Rest des Blocks weg.
+   *
+   * @return Die Anzahl der Anwendungen die Kandidaten ausgeschlossen haben.
+   */
+  private int applyBoxLineReductions() {
+    this.updatePositions();
+    int blockSize = this.geometry.blockSize;
+    int applied = 0;
+    for (int line = 0; line < this.geometry.blocks; line++) {
+      int[] linePositions = this.positions[line];
+      // Die Nummer der Reihe bzw. Spalte innerhalb ihrer Richtung.
+      int index = line % this.geometry.size;
+      for (int number = 1; number <= this.geometry.size; number++) {
+        int mask = linePositions[number];
+        if (Integer.bitCount(mask) < 2) {
+          continue;
+        }
+        for (int i = 0; i < blockSize; i++) {
+          if ((mask & ~this.segments[i]) == 0) {
+            int block = line < this.geometry.columns ? index / blockSize * blockSize + i : i * blockSize + index / blockSize;
+            if (this.removeOutside(this.units[this.geometry.blocks + block], line, 1 << number)) {
+              applied++;
+            }
+            break;
+          }
+        }
+      }
+    }
+    return applied;
+  }
+
+  /**
+   * Findet Gruppen von n Zahlen, die in einer Einheit nur in denselben n Feldern möglich sind. Diese Felder können dann keine anderen Zahlen enthalten.
+   *
+   * @param n 2 für Hidden Pairs, 3 für Hidden Triples.
+   * @return Die Anzahl der Gruppen die Kandidaten ausgeschlossen haben.
+   */
+  private int applyHiddenSubsets(int n) {
+    this.updatePositions();
+    int applied = 0;
+    for (int unit = 0; unit < this.units.length; unit++) {
+      int[] unitPositions = this.positions[unit];
+      // Nur Zahlen mit 2 bis n Feldern kommen in Frage.
+      int count = 0;
+      for (int number = 1; number <= this.geometry.size; number++) {
+        int size = Integer.bitCount(unitPositions[number]);
+        if (size >= 2 && size <= n) {
+          this.choices[count] = number;
+          this.choiceMasks[count++] = unitPositions[number];
+        }
+      }
+      if (count >= n) {
+        applied += this.findHiddenSubsets(this.units[unit], count, n, 0, 0, 0, 0);
+      }
+    }
+    return applied;
+  }
+
+  /**
+   * Probiert alle Kombinationen von n der in Frage kommenden Zahlen einer Einheit durch.
+   *
+   * @return Die Anzahl der Gruppen die Kandidaten ausgeschlossen haben.
+   */
+  private int findHiddenSubsets(int[] unit, int count, int n, int start, int chosen, int numberMask, int cellMask) {
+    if (Integer.bitCount(cellMask) > n) {
+      return 0;
+    }
+    if (chosen == n) {
+      boolean eliminated = false;
+      for (int i = 0; i < unit.length; i++) {
+        if ((cellMask & 1 << i) != 0) {
+          eliminated |= this.removeCandidates(unit[i], ~numberMask);
+        }
+      }
+      return eliminated ? 1 : 0;
+    }
+    int applied = 0;
+    for (int i = start; i < count; i++) {
+      applied += this.findHiddenSubsets(unit, count, n, i + 1, chosen + 1, numberMask | 1 << this.choices[i], cellMask | this.choiceMasks[i]);
+    }
+    return applied;
+  }
+
+  /**
+   * X-Wing (n = 2) und Swordfish (n = 3): Ist eine Zahl in n Reihen nur in denselben n Spalten möglich, steht sie in diesen Spalten in keiner anderen Reihe. Das
+   * Gleiche gilt mit vertauschten Reihen und Spalten.
+   *
+   * @param n Die Anzahl der Reihen bzw. Spalten.
+   * @return Die Anzahl der Muster die Kandidaten ausgeschlossen haben.
+   */
+  private int applyFish(int n) {
+    this.updatePositions();
+    int applied = 0;
+    for (int number = 1; number <= this.geometry.size; number++) {
+      applied += this.findFish(number, this.geometry.rows, this.geometry.columns, n);
+      applied += this.findFish(number, this.geometry.columns, this.geometry.rows, n);
+    }
+    return applied;
+  }
+
+  /**
+   * Sucht Fische einer Zahl in einer Richtung.
+   *
+   * @param number Die Zahl.
+   * @param base Die erste Einheit der Reihen bzw. Spalten in denen die Zahl nur an n Stellen möglich ist.
+   * @param cover Die erste Einheit der Spalten bzw. Reihen aus denen die Zahl entfernt wird.
+   * @param n Die Anzahl der Reihen bzw. Spalten.
+   * @return Die Anzahl der Muster die Kandidaten ausgeschlossen haben.
+   */
+  private int findFish(int number, int base, int cover, int n) {
+    int count = 0;
+    for (int line = 0; line < this.geometry.size; line++) {
+      int mask = this.positions[base + line][number];
+      int size = Integer.bitCount(mask);
+      if (size >= 2 && size <= n) {
+        this.choices[count] = line;
+        this.choiceMasks[count++] = mask;
+      }
+    }
+    return count >= n ? this.findFish(1 << number, cover, count, n, 0, 0, 0, 0) : 0;
+  }
+
+  /**
+   * Probiert alle Kombinationen von n der in Frage kommenden Reihen bzw. Spalten durch.
+   *
+   * @return Die Anzahl der Muster die Kandidaten ausgeschlossen haben.
+   */
+  private int findFish(int bit, int cover, int count, int n, int start, int chosen, int lineMask, int crossingMask) {
+    if (Integer.bitCount(crossingMask) > n) {
+      return 0;
+    }
+    if (chosen == n) {
+      boolean eliminated = false;
+      for (int crossing = 0; crossing < this.geometry.size; crossing++) {
+        if ((crossingMask & 1 << crossing) == 0) {
+          continue;
+        }
+        int[] unit = this.units[cover + crossing];
+        for (int line = 0; line < unit.length; line++) {
+          if ((lineMask & 1 << line) == 0) {
+            eliminated |= this.removeCandidates(unit[line], bit);
+          }
+        }
+      }
+      return eliminated ? 1 : 0;
+    }
+    int applied = 0;
+    for (int i = start; i < count; i++) {
+      applied += this.findFish(bit, cover, count, n, i + 1, chosen + 1, lineMask | 1 << this.choices[i], crossingMask | this.choiceMasks[i]);
+    }
+    return applied;
+  }
+
+  /**
+   * Ermittelt für jede Einheit und Zahl die Felder, in denen die Zahl noch möglich ist, falls sich seit dem letzten Mal etwas geändert hat.
+   * <p>
+   * Die Techniken ab Pointing Pair arbeiten nur mit diesen Masken. Sie entfernen nur Kandidaten, veraltete Masken enthalten also höchstens zu viele Felder und
+   * führen nie zu falschen Schlüssen, deshalb reicht es sie einmal vor jeder Technik zu ermitteln.
+   */
+  private void updatePositions() {
+    if (!this.positionsChanged) {
+      return;
+    }
+    this.positionsChanged = false;
+    for (int unit = 0; unit < this.units.length; unit++) {
+      int[] unitPositions = this.positions[unit];
+      Arrays.fill(unitPositions, 0);
+      int[] unitCells = this.units[unit];
+      for (int i = 0; i < unitCells.length; i++) {
+        int possibleSolutions = this.candidates[unitCells[i]];
+        while (possibleSolutions != 0) {
+          unitPositions[Integer.numberOfTrailingZeros(possibleSolutions)] |= 1 << i;
+          possibleSolutions &= possibleSolutions - 1;
+        }
+      }
+    }
+  }
+
+  /**
+   * Entfernt Zahlen aus allen Feldern einer Einheit die nicht zu einer anderen Einheit gehören.
+   *
+   * @param unit Die Felder aus denen entfernt wird.
+   * @param keep Die Einheit deren Felder unverändert bleiben.
+   * @param numbers Die Zahlen als Bitmaske.
+   * @return True wenn dabei Kandidaten weggefallen sind.
+   */
+  private boolean removeOutside(int[] unit, int keep, int numbers) {
+    boolean eliminated = false;
+    for (int cell : unit) {
+      int[] cellUnits = this.unitsOf[cell];
+      if (cellUnits[0] != keep && cellUnits[1] != keep && cellUnits[2] != keep) {
+        eliminated |= this.removeCandidates(cell, numbers);
+      }
+    }
+    return eliminated;
+  }
+
+  /**
+   * Setzt eine Zahl und entfernt sie aus den möglichen Lösungen der Nachbarfelder.
+   *
+   * @param cell Das Feld.
+   * @param number Die Zahl.
+   */
+  private void place(int cell, int number) {
+    this.cells[cell] = number;
+    this.empty--;
+    this.sudokuMatrix[this.rowOf[cell]][this.columnOf[cell]] = number;
+    this.candidates[cell] = 0;
+    this.markChanged(cell);
+    int bit = 1 << number;
+    for (int peer : this.peers[cell]) {
+      if ((this.candidates[peer] & bit) != 0) {
+        this.eliminate(peer, bit);
+      }
+    }
+  }
+
+  /**
+   * Schließt mögliche Lösungen eines Feldes für das Ende der Runde aus, die Kandidaten bleiben bis dahin unverändert.
+   *
+   * @param cell Das Feld.
+   * @param numbers Die zu entfernenden Zahlen als Bitmaske.
+   * @return True wenn dabei Kandidaten wegfallen, gemessen am Stand vor der Runde.
+   */
+  private boolean removeCandidates(int cell, int numbers) {
+    int removed = this.candidates[cell] & numbers;
+    if (removed == 0) {
+      return false;
+    }
+    if (this.pendingRemovals[cell] == 0) {
+      this.removalCells[this.removalCount++] = cell;
+    }
+    this.pendingRemovals[cell] |= removed;
+    return true;
+  }
+
+  /**
+   * Trägt alle in der Runde ausgeschlossenen Kandidaten ein.
+   */
+  private void flushRemovals() {
+    for (int i = 0; i < this.removalCount; i++) {
+      int cell = this.removalCells[i];
+      this.eliminate(cell, this.pendingRemovals[cell]);
+      this.pendingRemovals[cell] = 0;
+    }
+    this.removalCount = 0;
+  }
+
+  /**
+   * Entfernt mögliche Lösungen aus einem Feld und merkt sich was dadurch neu zu prüfen ist.
+   *
+   * @param cell Das Feld.
+   * @param numbers Die zu entfernenden Zahlen als Bitmaske.
+   * @return True wenn Kandidaten weggefallen sind.
+   */
+  private boolean eliminate(int cell, int numbers) {
+    int remaining = this.candidates[cell] & ~numbers;
+    if (remaining == this.candidates[cell]) {
+      return false;
+    }
+    this.candidates[cell] = remaining;
+    this.markChanged(cell);
+    if (remaining != 0 && (remaining & (remaining - 1)) == 0) {
+      this.singles[this.singlesCount++] = cell;
+    }
+    return true;
+  }
+
+  /**
+   * Merkt die Einheiten eines geänderten Feldes für die Suche nach Hidden Singles und Naked Pairs vor.
+   *
+   * @param cell Das geänderte Feld.
+   */
+  private void markChanged(int cell) {
+    this.positionsChanged = true;
+    int[] units = this.unitsOf[cell];
+    this.hiddenSingleQueue.offer(units[0]);
+    this.hiddenSingleQueue.offer(units[1]);
+    this.hiddenSingleQueue.offer(units[2]);
+    this.nakedPairQueue.offer(units[0]);
+    this.nakedPairQueue.offer(units[1]);
+    this.nakedPairQueue.offer(units[2]);
+  }
+
+  /**
+   * Ermittellt einmalig alle möglichen Lösungen für das jeweilige Feld.
+   */
+  private void findPossibleSolutions() {
+    int[] usedInUnit = new int[this.units.length];
+    for (int cell = 0; cell < this.geometry.cells; cell++) {
+      int bit = 1 << this.cells[cell];
+      for (int unit : this.unitsOf[cell]) {
+        usedInUnit[unit] |= bit;
+      }
+    }
+    // Nur leere Felder haben mögliche Lösungen, das sind alle Zahlen die nicht in Reihe, Spalte oder Block vorkommen.
+    for (int cell = 0; cell < this.geometry.cells; cell++) {
+      if (this.cells[cell] == 0) {
+        int[] units = this.unitsOf[cell];
+        int possibleSolutions = this.geometry.allNumbers & ~(usedInUnit[units[0]] | usedInUnit[units[1]] | usedInUnit[units[2]]);
+        this.candidates[cell] = possibleSolutions;
+        if (possibleSolutions != 0 && (possibleSolutions & (possibleSolutions - 1)) == 0) {
+          this.singles[this.singlesCount++] = cell;
+        }
+      }
+    }
+    // Zu Beginn müssen alle Einheiten einmal durchsucht werden.
+    for (int unit = 0; unit < this.units.length; unit++) {
+      this.hiddenSingleQueue.offer(unit);
+      this.nakedPairQueue.offer(unit);
+    }
+  }
+
+  /**
+   * Ein Eintrag der Tabelle: die Technik und ihre Anwendung auf den aktuellen Stand.
+   */
+  private static class Stage {
+
+    private final SudokuTechnique technique;
+    private final Step step;
+
+    Stage(SudokuTechnique technique, Step step) {
+      this.technique = technique;
+      this.step = step;
+    }
+  }
+
+  /**
+   * Wendet eine Technik überall an wo sie greift.
+   */
+  private interface Step {
+
+    /**
+     * @param solver Der HumanSolver mit dem aktuellen Stand.
+     * @return Die Anzahl der Anwendungen, 0 wenn die Technik nichts bewirkt hat.
+     */
+    int apply(HumanSolver solver);
+  }
+
+  /**
+   * Warteschlange von Einheiten in der jede Einheit höchstens einmal steht.
+   */
+  private static class UnitQueue {
+
+    private final int[] units;
+    private final boolean[] queued;
+    private int head;
+    private int size;
+
+    UnitQueue(int capacity) {
+      this.units = new int[capacity];
+      this.queued = new boolean[capacity];
+    }
+
+    void offer(int unit) {
+      if (!this.queued[unit]) {
+        this.queued[unit] = true;
+        this.units[(this.head + this.size++) % this.units.length] = unit;
+      }
+    }
+
+    int poll() {
+      int unit = this.units[this.head];
+      this.head = (this.head + 1) % this.units.length;
+      this.size--;
+      this.queued[unit] = false;
+      return unit;
+    }
+
+    int size() {
+      return this.size;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package sudoku;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Verteilung von Laufzeiten in Zweierpotenzen von Mikrosekunden.
+ * <p>
+ * Eimer 0 zählt alles unter einer Mikrosekunde, Eimer i die Laufzeiten von 2^(i-1) bis unter 2^i Mikrosekunden. Das ist grob, reicht aber um zu sehen ob ein
+ * Ausreißer Millisekunden oder Sekunden dauert, und das Eintragen kostet nur eine Addition ohne Sperre.
+ */
+class LatencyHistogram {
+
+  // 2^39 Mikrosekunden sind gut 6 Tage, längeres landet im letzten Eimer.
+  private static final int BUCKETS = 40;
+
+  private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+  LatencyHistogram() {
+    for (int i = 0; i < BUCKETS; i++) {
+      this.buckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * @param nanos Die gemessene Laufzeit in Nanosekunden.
+   */
+  void record(long nanos) {
+    long micros = nanos / 1000;
+    int bucket = micros <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(micros);
+    this.buckets[Math.min(bucket, BUCKETS - 1)].increment();
+  }
+
+  /**
+   * @return Die Anzahl der Messungen je Eimer.
+   */
+  long[] snapshot() {
+    long[] counts = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = this.buckets[i].sum();
+    }
+    return counts;
+  }
+
+  /**
+   * Schätzt ein Quantil nach oben ab.
+   *
+   * @param quantile Das Quantil zwischen 0 und 1, z.B. 0.99.
+   * @return Die obere Grenze des Eimers in dem das Quantil liegt in Millisekunden, 0 ohne Messungen.
+   */
+  double quantileMillis(double quantile) {
+    long[] counts = this.snapshot();
+    long total = 0;
+    for (long count : counts) {
+      total += count;
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = (long) Math.ceil(quantile * total);
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts[i];
+      if (seen >= rank && counts[i] > 0) {
+        return (1L << i) / 1000.0;
+      }
+    }
+    return (1L << (BUCKETS - 1)) / 1000.0;
+  }
+
+  void reset() {
+    for (LongAdder bucket : this.buckets) {
+      bucket.reset();
+    }
+  }
+}
@@ -0,0 +1,295 @@
+package sudoku;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Zählt die Lösungen eines Sudokus bis zu einer Grenze oder vollständig, parallel im ForkJoinPool.
+ * <p>
+ * Gesucht wird per Backtracking über Bitmasken, jeweils im leeren Feld mit den wenigsten Kandidaten. An den ersten SPLIT_DEPTH Verzweigungen wird für jeden Kandidaten
+ * eine eigene Teilaufgabe mit einer Kopie des Zustands erzeugt, freie Threads stehlen sich diese. Darunter sucht jede Teilaufgabe allein weiter. Mit einer Grenze
+ * meldet jede Teilaufgabe jede Lösung sofort an einen gemeinsamen Zähler und alle hören auf, sobald die Grenze insgesamt erreicht ist. Ohne Grenze bleibt die
+ * Summe bei Long.MAX_VALUE stehen, ein leeres 9 * 9 Sudoku hat etwa 6,7 * 10^21 Lösungen.
+ */
+class SolutionCounter {
+
+  // Ohne Grenze wird vollständig gezählt.
+  static final long UNLIMITED = 0;
+  // Anzahl der Verzweigungen von oben, an denen in Teilaufgaben aufgeteilt wird.
+  private static final int SPLIT_DEPTH = 6;
+  // Die Uhr wird je Teilaufgabe nur alle 1024 Knoten abgefragt.
+  private static final int CLOCK_INTERVAL = 1024;
+
+  private final ForkJoinPool pool;
+
+  /**
+   * Zählt im gemeinsamen ForkJoinPool.
+   */
+  SolutionCounter() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * @param pool Der Pool in dem gezählt wird.
+   */
+  SolutionCounter(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * Zählt die Lösungen eines Sudokus.
+   *
+   * @param sudokuMatrix Das Sudoku, leere Felder sind 0. Wird nicht verändert.
+   * @param limit Nach so vielen Lösungen wird abgebrochen, UNLIMITED für alle.
+   * @return Die Anzahl der Lösungen, höchstens limit bzw. Long.MAX_VALUE. 0 bei widersprüchlichen Vorgaben.
+   */
+  long count(int[][] sudokuMatrix, long limit) {
+    return this.count(sudokuMatrix, limit, 0);
+  }
+
+  /**
+   * Zählt die Lösungen eines Sudokus bis zu einer Frist.
+   *
+   * @param sudokuMatrix Das Sudoku, leere Felder sind 0. Wird nicht verändert.
+   * @param limit Nach so vielen Lösungen wird abgebrochen, UNLIMITED für alle.
+   * @param deadline Der Zeitpunkt nach System.nanoTime() zu dem abgebrochen wird, 0 für unbegrenzt.
+   * @return Die Anzahl der Lösungen, höchstens limit bzw. Long.MAX_VALUE. 0 bei widersprüchlichen Vorgaben.
+   * @throws CancellationException Wenn die Frist vor dem Ende der Zählung abläuft.
+   */
+  long count(int[][] sudokuMatrix, long limit, long deadline) {
+    if (limit < 0) {
+      throw new IllegalArgumentException("limit >= 0 erwartet: " + limit);
+    }
+    SudokuGeometry geometry = SudokuGeometry.of(sudokuMatrix);
+    int[] cells = new int[geometry.cells];
+    int[] unitMasks = new int[geometry.units.length];
+    for (int cell = 0; cell < geometry.cells; cell++) {
+      int number = sudokuMatrix[geometry.rowOf[cell]][geometry.columnOf[cell]];
+      if (number == 0) {
+        continue;
+      }
+      int bit = 1 << number;
+      for (int unit : geometry.unitsOf[cell]) {
+        if ((unitMasks[unit] & bit) != 0) {
+          return 0;
+        }
+        unitMasks[unit] |= bit;
+      }
+      cells[cell] = number;
+    }
+    Count count = new Count(geometry, limit, deadline);
+    long solutions = this.pool.invoke(new CountTask(count, cells, unitMasks, SPLIT_DEPTH));
+    if (count.expired) {
+      throw new CancellationException("Zeitlimit überschritten");
+    }
+    return limit == UNLIMITED ? solutions : Math.min(solutions, limit);
+  }
+
+  /**
+   * Gemeinsamer Stand eines Zählvorgangs.
+   */
+  private static class Count {
+
+    private final SudokuGeometry geometry;
+    private final long limit;
+    // Von allen Teilaufgaben gemeldete Lösungen, nur mit Grenze genutzt.
+    private final AtomicLong reported = new AtomicLong();
+    private volatile boolean limitReached;
+    // Der Zeitpunkt nach System.nanoTime() zu dem abgebrochen wird, 0 für unbegrenzt.
+    private final long deadline;
+    private volatile boolean expired;
+
+    Count(SudokuGeometry geometry, long limit, long deadline) {
+      this.geometry = geometry;
+      this.limit = limit;
+      this.deadline = deadline;
+    }
+
+    /**
+     * @return True wenn die Grenze erreicht oder die Frist abgelaufen ist und alle Teilaufgaben aufhören.
+     */
+    boolean isStopped() {
+      return this.limitReached || this.expired;
+    }
+
+    /**
+     * Prüft die Frist.
+     */
+    void checkDeadline() {
+      if (this.deadline != 0 && System.nanoTime() - this.deadline >= 0) {
+        this.expired = true;
+      }
+    }
+
+    /**
+     * Meldet eine gefundene Lösung. Nur mit Grenze wird gezählt, ohne Grenze reicht die Summe der Teilaufgaben.
+     */
+    void report() {
+      if (this.limit != UNLIMITED && this.reported.incrementAndGet() >= this.limit) {
+        this.limitReached = true;
+      }
+    }
+  }
+
+  /**
+   * Addiert zwei Anzahlen und bleibt bei einem Überlauf bei Long.MAX_VALUE stehen.
+   */
+  private static long add(long solutions, long more) {
+    long sum = solutions + more;
+    return sum < solutions ? Long.MAX_VALUE : sum;
+  }
+
+  /**
+   * Zählt die Lösungen eines Teilbaums. Der Zustand gehört allein dieser Aufgabe.
+   */
+  private static class CountTask extends RecursiveTask<Long> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Count count;
+    private final SudokuGeometry geometry;
+    private final int[] cells;
+    // Belegte Zahlen je Einheit als Bitmaske, Einheiten wie in SudokuGeometry.units.
+    private final int[] unitMasks;
+    private final int splitDepth;
+    // Knoten dieser Aufgabe, für die Abfrage der Uhr.
+    private int nodes;
+
+    CountTask(Count count, int[] cells, int[] unitMasks, int splitDepth) {
+      this.count = count;
+      this.geometry = count.geometry;
+      this.cells = cells;
+      this.unitMasks = unitMasks;
+      this.splitDepth = splitDepth;
+    }
+
+    @Override
+    protected Long compute() {
+      this.count.checkDeadline();
+      if (this.count.isStopped()) {
+        return 0L;
+      }
+      // Felder mit nur einem Kandidaten werden direkt gesetzt, der Zustand gehört ja dieser Aufgabe.
+      while (true) {
+        int cell = this.mostConstrainedCell();
+        if (cell < 0) {
+          this.count.report();
+          return 1L;
+        }
+        int free = this.candidates(cell);
+        if (free == 0) {
+          return 0L;
+        }
+        if ((free & (free - 1)) == 0) {
+          this.place(cell, Integer.numberOfTrailingZeros(free));
+          continue;
+        }
+        if (this.splitDepth == 0) {
+          return this.search();
+        }
+        List<CountTask> tasks = new ArrayList<>(Integer.bitCount(free));
+        while (free != 0) {
+          int number = Integer.numberOfTrailingZeros(free);
+          free &= free - 1;
+          CountTask task = new CountTask(this.count, this.cells.clone(), this.unitMasks.clone(), this.splitDepth - 1);
+          task.place(cell, number);
+          tasks.add(task);
+        }
+        long solutions = 0;
+        for (CountTask task : ForkJoinTask.invokeAll(tasks)) {
+          solutions = add(solutions, task.join());
+        }
+        return solutions;
+      }
+    }
+
+    /**
+     * Zählt die Lösungen ab dem aktuellen Zustand ohne weiter aufzuteilen und stellt den Zustand danach wieder her.
+     *
+     * @return Die Anzahl der gefundenen Lösungen.
+     */
+    private long search() {
+      if (++this.nodes % CLOCK_INTERVAL == 0) {
+        this.count.checkDeadline();
+      }
+      if (this.count.isStopped()) {
+        return 0;
+      }
+      int cell = this.mostConstrainedCell();
+      if (cell < 0) {
+        this.count.report();
+        return 1;
+      }
+      long solutions = 0;
+      int free = this.candidates(cell);
+      // Ist die Grenze erreicht oder die Frist abgelaufen, wird kein weiterer Kandidat mehr probiert.
+      while (free != 0 && !this.count.isStopped()) {
+        int number = Integer.numberOfTrailingZeros(free);
+        free &= free - 1;
+        this.place(cell, number);
+        solutions = add(solutions, this.search());
+        this.remove(cell, number);
+      }
+      return solutions;
+    }
+
+    /**
+     * Sucht das leere Feld mit den wenigsten Kandidaten.
+     *
+     * @return Das Feld oder -1 wenn alle Felder belegt sind.
+     */
+    private int mostConstrainedCell() {
+      int best = -1;
+      int bestCount = Integer.MAX_VALUE;
+      for (int cell = 0; cell < this.cells.length; cell++) {
+        if (this.cells[cell] == 0) {
+          int count = Integer.bitCount(this.candidates(cell));
+          if (count < bestCount) {
+            best = cell;
+            bestCount = count;
+            if (count <= 1) {
+              break;
+            }
+          }
+        }
+      }
+      return best;
+    }
+
+    /**
+     * @param cell Das Feld.
+     * @return Die noch freien Zahlen des Feldes als Bitmaske.
+     */
+    private int candidates(int cell) {
+      int[] units = this.geometry.unitsOf[cell];
+      return ~(this.unitMasks[units[0]] | this.unitMasks[units[1]] | this.unitMasks[units[2]]) & this.geometry.allNumbers;
+    }
+
+    /**
+     * @param cell Das Feld.
+     * @param number Die zu setzende Zahl.
+     */
+    private void place(int cell, int number) {
+      this.cells[cell] = number;
+      for (int unit : this.geometry.unitsOf[cell]) {
+        this.unitMasks[unit] |= 1 << number;
+      }
+    }
+
+    /**
+     * @param cell Das Feld.
+     * @param number Die zu entfernende Zahl.
+     */
+    private void remove(int cell, int number) {
+      this.cells[cell] = 0;
+      for (int unit : this.geometry.unitsOf[cell]) {
+        this.unitMasks[unit] &= ~(1 << number);
+      }
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package sudoku;
+
+/**
+ * Gemeinsame Schnittstelle der Lösungsverfahren, damit Generator und Controller das Verfahren zur Laufzeit wählen können.
+ */
+interface Solver {
+
+  // Ergebnis von solveAndFill() wenn Suchschritte oder Laufzeit nicht gereicht haben.
+  int UNDECIDED = -1;
+
+  /**
+   * Gibt das Sudokufeld als Matrix zurück.
+   *
+   * @return Die Sudokumatrix.
+   */
+  int[][] getSudokuMatrix();
+
+  /**
+   * Setzt die gewünschte Sudokumatrix.
+   *
+   * @param sudokuMatrix Sudokumatrix.
+   */
+  void setSudokuMatrix(int[][] sudokuMatrix);
+
+  /**
+   * Prüfte ob das Sudoku nur einen Lösungsweg hat.
+   *
+   * @return true|false
+   */
+  boolean isUnique();
+
+  /**
+   * Zählt die Lösungen des Sudokus, bricht aber nach der zweiten ab.
+   *
+   * @return Die Anzahl der gefundenen Lösungen (0, 1 oder 2).
+   */
+  int solve();
+
+  /**
+   * Zählt die Lösungen wie solve() und trägt die erste gefundene in die Sudokumatrix ein. Das ist eine Suche statt zwei für solve() und fill() nacheinander.
+   * <p>
+   * Anders als solve() gilt ein Abbruch nach setSearchLimit() oder setSearchTimeout() nicht als mehrdeutig, denn danach müsste fill() unbegrenzt weitersuchen.
+   *
+   * @return Die Anzahl der gefundenen Lösungen (0, 1 oder 2) oder UNDECIDED wenn die Suche abgebrochen wurde. Bei 0 und UNDECIDED bleibt die Sudokumatrix
+   *     unverändert.
+   */
+  int solveAndFill();
+
+  /**
+   * Prüft ob das Sudoku überhaupt lösbar ist und bricht nach der ersten Lösung ab.
+   *
+   * @return True wenn es mindestens eine Lösung gibt.
+   */
+  boolean isSolvable();
+
+  /**
+   * Begrenzt die Anzahl der Suchschritte je Aufruf von solve() und isSolvable(). Wird die Grenze erreicht, gilt das Sudoku als mehrdeutig bzw. lösbar: solve()
+   * liefert 2 und isSolvable() true. Im Zweifel bleibt eine Zahl beim Erzeugen also stehen und das Sudoku eindeutig. solveAndFill() liefert UNDECIDED.
+   *
+   * @param steps Die maximale Anzahl an Suchschritten, 0 für unbegrenzt.
+   */
+  void setSearchLimit(long steps);
+
+  /**
+   * Begrenzt die Laufzeit je Aufruf von solve() und isSolvable(), nach Ablauf gilt das Sudoku wie bei setSearchLimit() als mehrdeutig bzw. lösbar. Anders als bei den
+   * Suchschritten hängt das Ergebnis dann von der Maschine ab, für aus einem Seed reproduzierbare Sudokus taugt nur setSearchLimit().
+   *
+   * @param nanos Die maximale Laufzeit in Nanosekunden, 0 für unbegrenzt.
+   */
+  void setSearchTimeout(long nanos);
+
+  /**
+   * Befüllt das Sudoku mit einer gültigen Lösung.
+   *
+   * @return True wenn es Fertig ist. False wenn es keine Lösung gibt.
+   */
+  boolean fill();
+
+  /**
+   * @return Besuchte Knoten aller Suchen dieses Solvers.
+   */
+  long getSearchNodes();
+
+  /**
+   * @return Zurückgenommene Zahlen bzw. Zeilen aller Suchen dieses Solvers, die zu keiner Lösung geführt haben.
+   */
+  long getSearchBacktracks();
+
+  /**
+   * Erstellt das gewünschte Lösungsverfahren.
+   *
+   * @param engine Name des Verfahrens (Sudoku.SOLVER_BACKTRACKING, Sudoku.SOLVER_PROPAGATION oder Sudoku.SOLVER_DLX).
+   * @param sudokuMatrix Die Sudokumatrix.
+   * @return Das Lösungsverfahren.
+   */
+  static Solver create(String engine, int[][] sudokuMatrix) {
+    switch (engine) {
+      case Sudoku.SOLVER_BACKTRACKING:
+        return new SudokuSolver(sudokuMatrix);
+      case Sudoku.SOLVER_PROPAGATION:
+        return new SudokuSolver(sudokuMatrix, true);
+      case Sudoku.SOLVER_DLX:
+        return new DancingLinksSolver(sudokuMatrix);
+      default:
+        throw new IllegalArgumentException("Unbekanntes Lösungsverfahren: " + engine);
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package sudoku;
+
+/**
+ * Die gemeinsamen Konstanten von Solvern, Generator und Oberflächen. Liegt im Kern ohne Abhängigkeit zu AWT oder Swing, damit Dienst und Stapelverarbeitung
+ * ohne GUI-Klassen starten.
+ */
+final class Sudoku {
+
+  static final int EASY = 0;
+  static final int NORMAL = 1;
+  static final int HARD = 2;
+
+  // Größe beim Start und für Vorrat und Dateien, in der GUI sind alle SIZES wählbar.
+  static final int DEFAULT_SIZE = 9;
+  static final int[] SIZES = {9, 16, 25};
+
+  static final String SOLVER_BACKTRACKING = "backtracking";
+  static final String SOLVER_PROPAGATION = "propagation";
+  static final String SOLVER_DLX = "dlx";
+  // Ohne --solver: die Propagation prüft die Eindeutigkeit beim Erzeugen um ein Vielfaches schneller als das reine Backtracking.
+  static final String DEFAULT_SOLVER = SOLVER_PROPAGATION;
+
+  private Sudoku() {
+  }
+}
@@ -0,0 +1,217 @@
+package sudoku;
+
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Erzeugt eine feste Anzahl an Sudokus eines Schwierigkeitsgrades parallel und gibt sie als Flow.Publisher aus.
+ * <p>
+ * Es werden nur so viele Sudokus erzeugt wie der Subscriber angefordert hat, höchstens parallelism gleichzeitig. Jeder Subscriber bekommt einen eigenen Durchlauf mit count Sudokus.
+ * Mit einem SudokuDedupeIndex werden Sudokus, die nur Varianten bereits ausgegebener sind, verworfen und neu erzeugt.
+ * <p>
+ * Mit einem Seed bekommt jedes Sudoku eines Durchlaufs eine eigene, per split() abgespaltene Zufallsquelle. Jeder Durchlauf liefert dann die gleichen Sudokus,
+ * egal auf wie vielen Kernen erzeugt wird, nur die Reihenfolge hängt davon ab, welches zuerst fertig ist. Mit einem SudokuDedupeIndex gilt das nicht, da dann
+ * der Zufall entscheidet, welches von zwei Duplikaten neu erzeugt wird.
+ */
+class SudokuBatchGenerator implements Flow.Publisher<GeneratedSudoku> {
+
+  private final int targetDifficulty;
+  private final long count;
+  private final String solverEngine;
+  private final Executor executor;
+  private final int parallelism;
+  private final SudokuDedupeIndex dedupeIndex;
+  // Seed aller Durchläufe, null für jedes Mal neue Sudokus.
+  private final Long seed;
+
+  /**
+   * Erzeugt die Sudokus im gemeinsamen ForkJoinPool mit allen Kernen.
+   *
+   * @param targetDifficulty Der gewünschte Schwierigkeitsgrad.
+   * @param count Die Anzahl der zu erzeugenden Sudokus.
+   * @param solverEngine Das Lösungsverfahren.
+   */
+  SudokuBatchGenerator(int targetDifficulty, long count, String solverEngine) {
+    this(targetDifficulty, count, solverEngine, ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * @param targetDifficulty Der gewünschte Schwierigkeitsgrad.
+   * @param count Die Anzahl der zu erzeugenden Sudokus.
+   * @param solverEngine Das Lösungsverfahren.
+   * @param executor Der Executor auf dem die Sudokus erzeugt werden.
+   * @param parallelism Maximale Anzahl gleichzeitig erzeugter Sudokus pro Subscriber.
+   */
+  SudokuBatchGenerator(int targetDifficulty, long count, String solverEngine, Executor executor, int parallelism) {
+    this(targetDifficulty, count, solverEngine, executor, parallelism, null);
+  }
+
+  /**
+   * @param targetDifficulty Der gewünschte Schwierigkeitsgrad.
+   * @param count Die Anzahl der zu erzeugenden Sudokus.
+   * @param solverEngine Das Lösungsverfahren.
+   * @param executor Der Executor auf dem die Sudokus erzeugt werden.
+   * @param parallelism Maximale Anzahl gleichzeitig erzeugter Sudokus pro Subscriber.
+   * @param dedupeIndex Index gegen Duplikate, null wenn nicht geprüft werden soll. Kann über mehrere Generatoren geteilt werden.
+   */
+  SudokuBatchGenerator(int targetDifficulty, long count, String solverEngine, Executor executor, int parallelism, SudokuDedupeIndex dedupeIndex) {
+    this(targetDifficulty, count, solverEngine, executor, parallelism, dedupeIndex, null);
+  }
+
+  /**
+   * @param targetDifficulty Der gewünschte Schwierigkeitsgrad.
+   * @param count Die Anzahl der zu erzeugenden Sudokus.
+   * @param solverEngine Das Lösungsverfahren.
+   * @param executor Der Executor auf dem die Sudokus erzeugt werden.
+   * @param parallelism Maximale Anzahl gleichzeitig erzeugter Sudokus pro Subscriber.
+   * @param dedupeIndex Index gegen Duplikate, null wenn nicht geprüft werden soll. Kann über mehrere Generatoren geteilt werden.
+   * @param seed Seed für reproduzierbare Durchläufe, null für jedes Mal neue Sudokus.
+   */
+  SudokuBatchGenerator(int targetDifficulty, long count, String solverEngine, Executor executor, int parallelism, SudokuDedupeIndex dedupeIndex, Long seed) {
+    if (count < 0 || parallelism < 1) {
+      throw new IllegalArgumentException("count >= 0 und parallelism >= 1 erwartet");
+    }
+    this.targetDifficulty = targetDifficulty;
+    this.count = count;
+    this.solverEngine = solverEngine;
+    this.executor = executor;
+    this.parallelism = parallelism;
+    this.dedupeIndex = dedupeIndex;
+    this.seed = seed;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super GeneratedSudoku> subscriber) {
+    BatchSubscription subscription = new BatchSubscription(subscriber);
+    subscriber.onSubscribe(subscription);
+    // Ein leerer Durchlauf ist sofort fertig.
+    subscription.drain();
+  }
+
+  /**
+   * Ein Durchlauf für einen Subscriber.
+   */
+  private class BatchSubscription implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super GeneratedSudoku> subscriber;
+    private final Queue<GeneratedSudoku> ready = new ConcurrentLinkedQueue<>();
+    // Quelle der Zufallsquellen der einzelnen Sudokus, nur unter ihrer eigenen Sperre verwendet.
+    private final SplittableRandom seeds = seed != null ? new SplittableRandom(seed) : new SplittableRandom();
+    // Summe aller Anforderungen, gedeckelt auf Long.MAX_VALUE.
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicInteger running = new AtomicInteger();
+    // Sorgt dafür, dass immer nur ein Thread an den Subscriber ausliefert.
+    private final AtomicInteger drainCounter = new AtomicInteger();
+    private long emitted;
+    private volatile boolean cancelled;
+    private volatile boolean done;
+    private volatile Throwable error;
+
+    BatchSubscription(Flow.Subscriber<? super GeneratedSudoku> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        this.error = new IllegalArgumentException("Anforderung muss positiv sein: " + n);
+      } else {
+        this.requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+        this.startWork();
+      }
+      this.drain();
+    }
+
+    @Override
+    public void cancel() {
+      this.cancelled = true;
+    }
+
+    /**
+     * Startet neue Erzeugungen solange angefordert wurde und noch Platz ist.
+     */
+    private void startWork() {
+      while (!cancelled && error == null) {
+        int current = running.get();
+        long next = started.get();
+        if (next >= count || next >= requested.get() || current >= parallelism) {
+          return;
+        }
+        if (!running.compareAndSet(current, current + 1)) {
+          continue;
+        }
+        if (!started.compareAndSet(next, next + 1)) {
+          running.decrementAndGet();
+          continue;
+        }
+        SplittableRandom random;
+        synchronized (seeds) {
+          random = seeds.split();
+        }
+        executor.execute(() -> this.generateOne(random));
+      }
+    }
+
+    /**
+     * Erzeugt ein Sudoku und stößt danach die Auslieferung und die nächste Erzeugung an.
+     *
+     * @param random Die Zufallsquelle dieses Sudokus, liefert auch die Seeds für Wiederholungen wegen Duplikaten.
+     */
+    private void generateOne(SplittableRandom random) {
+      try {
+        GeneratedSudoku sudoku = null;
+        while (!cancelled && sudoku == null) {
+          sudoku = SudokuGenerator.generate(targetDifficulty, solverEngine, Sudoku.DEFAULT_SIZE, random.nextLong(), null);
+          if (dedupeIndex != null && !dedupeIndex.add(sudoku.getSudokuMatrix())) {
+            sudoku = null;
+          }
+        }
+        if (sudoku != null) {
+          ready.offer(sudoku);
+        }
+      } catch (Throwable t) {
+        this.error = t;
+      }
+      running.decrementAndGet();
+      this.startWork();
+      this.drain();
+    }
+
+    /**
+     * Liefert fertige Sudokus aus soweit sie angefordert wurden und meldet das Ende.
+     */
+    private void drain() {
+      if (drainCounter.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        while (!cancelled && !done && error == null && emitted < requested.get()) {
+          GeneratedSudoku sudoku = ready.poll();
+          if (sudoku == null) {
+            break;
+          }
+          emitted++;
+          subscriber.onNext(sudoku);
+        }
+        if (!cancelled && !done) {
+          if (error != null) {
+            done = true;
+            subscriber.onError(error);
+          } else if (emitted == count) {
+            done = true;
+            subscriber.onComplete();
+          }
+        }
+        missed = drainCounter.addAndGet(-missed);
+      } while (missed != 0);
+    }
+  }
+}
@@ -0,0 +1,284 @@
+package sudoku;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Löst Sudoku-Dateien ohne GUI, eine Zeile mit 81 Zeichen pro Sudoku, '0' oder '.' für leere Felder.
+ * <p>
+ * Die Eingabe wird abschnittsweise per Memory-Mapping gelesen und nie ganz geladen. Jeder Abschnitt wird in Blöcke von Zeilen aufgeteilt, die parallel gelöst und in der
+ * Reihenfolge der Eingabe geschrieben werden. Jede Ausgabezeile enthält die Lösung (bzw. das Sudoku selbst wenn es keine gibt) und nach einem Komma die Anzahl der
+ * Lösungen: 0, 1 oder 2 für "mehr als eine". Ungültige Zeilen werden unverändert mit -1 ausgegeben. Reicht die Laufzeit je Sudoku nicht, wird das Sudoku selbst mit
+ * -2 ausgegeben. Leere Zeilen werden übersprungen und nicht gezählt.
+ */
+class SudokuBatchSolver {
+
+  // Größe eines gemappten Abschnitts der Eingabe.
+  private static final int CHUNK_SIZE = 64 * 1024 * 1024;
+  // Anzahl der Zeilen die ein Thread am Stück löst.
+  private static final int LINES_PER_BLOCK = 4096;
+  private static final int CELLS = Sudoku.DEFAULT_SIZE * Sudoku.DEFAULT_SIZE;
+
+  private final String solverEngine;
+  private final int threads;
+  // Jeder Thread nutzt seinen eigenen Solver samt Matrix.
+  private final ThreadLocal<Solver> solvers;
+
+  /**
+   * @param solverEngine Das Lösungsverfahren.
+   * @param threads Die Anzahl der Threads.
+   * @param timeout Die maximale Laufzeit je Sudoku in Millisekunden, 0 für unbegrenzt. Ein einzelnes sehr schweres Sudoku hält so nicht die ganze Datei auf.
+   */
+  SudokuBatchSolver(String solverEngine, int threads, long timeout) {
+    this.solverEngine = solverEngine;
+    this.threads = threads;
+    this.solvers = ThreadLocal.withInitial(() -> {
+      Solver solver = Solver.create(this.solverEngine, new int[Sudoku.DEFAULT_SIZE][Sudoku.DEFAULT_SIZE]);
+      solver.setSearchTimeout(TimeUnit.MILLISECONDS.toNanos(timeout));
+      return solver;
+    });
+  }
+
+  /**
+   * Löst alle Sudokus der Eingabedatei und schreibt die Ergebnisse in die Ausgabedatei.
+   *
+   * @param input Die Eingabedatei.
+   * @param output Die Ausgabedatei, wird überschrieben.
+   * @return Die Anzahl der geschriebenen Zeilen, ohne leere Zeilen der Eingabe.
+   * @throws IOException Bei Fehlern beim Lesen oder Schreiben.
+   */
+  long solveFile(Path input, Path output) throws IOException {
+    ExecutorService executor = Executors.newFixedThreadPool(this.threads);
+    // Begrenzt die Anzahl der Blöcke die gleichzeitig im Speicher sind.
+    int maxPending = this.threads * 4;
+    Queue<Future<byte[]>> pending = new ArrayDeque<>();
+    long lines = 0;
+    try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ);
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(output), 1 << 20)) {
+      long size = channel.size();
+      long position = 0;
+      while (position < size) {
+        long length = Math.min(CHUNK_SIZE, size - position);
+        MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        int end = (int) length;
+        if (position + length < size) {
+          // Der Abschnitt endet hinter der letzten vollständigen Zeile, der Rest kommt in den nächsten.
+          end = lastLineEnd(chunk, end);
+          if (end == 0) {
+            throw new IOException("Zeile länger als " + CHUNK_SIZE + " Bytes bei Position " + position);
+          }
+        }
+
+        int blockStart = 0;
+        int blockLines = 0;
+        for (int i = 0; i < end; i++) {
+          if (chunk.get(i) == '\n' && ++blockLines == LINES_PER_BLOCK) {
+            pending.add(executor.submit(this.block(chunk, blockStart, i + 1)));
+            blockStart = i + 1;
+            blockLines = 0;
+            while (pending.size() >= maxPending) {
+              lines += write(out, await(pending.poll()));
+            }
+          }
+        }
+        if (blockStart < end) {
+          pending.add(executor.submit(this.block(chunk, blockStart, end)));
+        }
+        position += end;
+      }
+      while (!pending.isEmpty()) {
+        lines += write(out, await(pending.poll()));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    return lines;
+  }
+
+  /**
+   * Sucht das Ende der letzten vollständigen Zeile im Abschnitt.
+   *
+   * @param chunk Der Abschnitt.
+   * @param length Die Länge des Abschnitts.
+   * @return Die Position direkt hinter dem letzten Zeilenumbruch, 0 wenn es keinen gibt.
+   */
+  private static int lastLineEnd(ByteBuffer chunk, int length) {
+    for (int i = length - 1; i >= 0; i--) {
+      if (chunk.get(i) == '\n') {
+        return i + 1;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Schreibt die Ausgabe eines Blocks. Gezählt werden die geschriebenen Zeilen, leere Zeilen der Eingabe haben keine und zählen daher nicht mit.
+   *
+   * @param out Die Ausgabe.
+   * @param block Die Ausgabezeilen des Blocks, jede mit einem Zeilenumbruch.
+   * @return Die Anzahl der Zeilen.
+   * @throws IOException Bei Fehlern beim Schreiben.
+   */
+  private static long write(OutputStream out, byte[] block) throws IOException {
+    out.write(block);
+    long lines = 0;
+    for (byte character : block) {
+      if (character == '\n') {
+        lines++;
+      }
+    }
+    return lines;
+  }
+
+  /**
+   * Wartet auf das Ergebnis eines Blocks.
+   *
+   * @param future Der Block.
+   * @return Die Ausgabe des Blocks.
+   * @throws IOException Wenn der Block fehlgeschlagen ist.
+   */
+  private static byte[] await(Future<byte[]> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Abgebrochen", e);
+    } catch (ExecutionException e) {
+      throw new IOException(e.getCause());
+    }
+  }
+
+  /**
+   * Erstellt die Aufgabe für einen Block von Zeilen.
+   *
+   * @param chunk Der Abschnitt in dem der Block liegt.
+   * @param start Der Anfang des Blocks im Abschnitt.
+   * @param end Das Ende des Blocks im Abschnitt (exklusiv).
+   * @return Die Aufgabe, liefert die Ausgabezeilen des Blocks.
+   */
+  private Callable<byte[]> block(ByteBuffer chunk, int start, int end) {
+    // Eigene Sicht auf den Puffer, da Position und Limit nicht threadsicher sind.
+    ByteBuffer lines = chunk.duplicate();
+    return () -> this.solveLines(lines, start, end);
+  }
+
+  /**
+   * Löst alle Zeilen eines Blocks.
+   *
+   * @param buffer Der Puffer mit den Zeilen.
+   * @param start Der Anfang des Blocks.
+   * @param end Das Ende des Blocks (exklusiv).
+   * @return Die Ausgabezeilen.
+   */
+  private byte[] solveLines(ByteBuffer buffer, int start, int end) {
+    Solver solver = this.solvers.get();
+    int[][] matrix = solver.getSudokuMatrix();
+    // Ausgabezeilen sind höchstens 3 Bytes länger als die Eingabe (",-1", ",-2" bzw. ",2").
+    ByteBuffer result = ByteBuffer.allocate((end - start) + 4 * LINES_PER_BLOCK);
+    int lineStart = start;
+    while (lineStart < end) {
+      int lineEnd = lineStart;
+      while (lineEnd < end && buffer.get(lineEnd) != '\n') {
+        lineEnd++;
+      }
+      int contentEnd = lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+      if (contentEnd > lineStart) {
+        if (contentEnd - lineStart == CELLS && parse(buffer, lineStart, matrix)) {
+          // Eine Suche zählt und trägt die erste Lösung ein, ohne Lösung oder nach Ablauf der Zeit bleibt das Sudoku unverändert.
+          int solutions = hasConflict(matrix) ? 0 : solver.solveAndFill();
+          for (int[] row : matrix) {
+            for (int number : row) {
+              result.put((byte) ('0' + number));
+            }
+          }
+          if (solutions == Solver.UNDECIDED) {
+            result.put(",-2".getBytes(StandardCharsets.US_ASCII));
+          } else {
+            result.put((byte) ',').put((byte) ('0' + solutions));
+          }
+        } else {
+          for (int i = lineStart; i < contentEnd; i++) {
+            result.put(buffer.get(i));
+          }
+          result.put(",-1".getBytes(StandardCharsets.US_ASCII));
+        }
+        result.put((byte) '\n');
+      }
+      lineStart = lineEnd + 1;
+    }
+    byte[] bytes = new byte[result.position()];
+    result.flip().get(bytes);
+    return bytes;
+  }
+
+  /**
+   * Liest eine Zeile in die Matrix ein.
+   *
+   * @param buffer Der Puffer.
+   * @param start Der Anfang der Zeile.
+   * @param matrix Die Zielmatrix.
+   * @return False wenn die Zeile ein ungültiges Zeichen enthält.
+   */
+  private static boolean parse(ByteBuffer buffer, int start, int[][] matrix) {
+    for (int i = 0; i < CELLS; i++) {
+      byte character = buffer.get(start + i);
+      int number;
+      if (character == '.' || character == '0') {
+        number = 0;
+      } else if (character >= '1' && character <= '9') {
+        number = character - '0';
+      } else {
+        return false;
+      }
+      matrix[i / Sudoku.DEFAULT_SIZE][i % Sudoku.DEFAULT_SIZE] = number;
+    }
+    return true;
+  }
+
+  /**
+   * Prüft ob eine Zahl in einer Reihe, Spalte oder einem Block doppelt vorgegeben ist. Das Backtracking setzt widerspruchsfreie Vorgaben voraus.
+   *
+   * @param matrix Die Sudokumatrix.
+   * @return True bei einem Widerspruch.
+   */
+  static boolean hasConflict(int[][] matrix) {
+    SudokuGeometry geometry = SudokuGeometry.of(matrix);
+    int size = geometry.size;
+    int[] rows = new int[size];
+    int[] columns = new int[size];
+    int[] blocks = new int[size];
+    for (int row = 0; row < size; row++) {
+      for (int column = 0; column < size; column++) {
+        int number = matrix[row][column];
+        if (number == 0) {
+          continue;
+        }
+        int bit = 1 << number;
+        int block = geometry.blockOf(row, column);
+        if (((rows[row] | columns[column] | blocks[block]) & bit) != 0) {
+          return true;
+        }
+        rows[row] |= bit;
+        columns[column] |= bit;
+        blocks[block] |= bit;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,317 @@
+package sudoku;
+
+/**
+ * Berechnet die kanonische Form eines Sudokus über die gesamte Symmetriegruppe: Spiegeln an der Diagonalen, Tauschen von Bändern und Stapeln, Tauschen von Reihen
+ * innerhalb eines Bandes bzw. Spalten innerhalb eines Stapels sowie Umbenennen der Zahlen.
+ * <p>
+ * Die kanonische Form ist unter allen diesen Varianten die lexikographisch kleinste, wobei leere Felder 0 sind und die Zahlen in der Reihenfolge ihres ersten Auftretens
+ * mit 1, 2, 3, ... benannt werden. Gesucht wird per Tiefensuche: zuerst die erste Reihe und Feld für Feld die Spaltenanordnung, danach die übrigen Reihen. Als erste
+ * Reihe kommen nur Reihen in Frage, deren Vorgaben so in den Stapeln liegen, dass sie die kleinste erste Reihe ergeben. Jeder Zweig wird abgebrochen, sobald er
+ * größer als die bisher beste Form wird, so dass von den 2 * 1296 * 1296 Varianten nur ein Bruchteil betrachtet wird.
+ * <p>
+ * Bei erzeugten Sudokus kostet das warm im Mittel etwa 0,15 ms und im 99. Perzentil etwa 0,5 ms, kalt bis etwa 5 ms. Je weniger Vorgaben, desto später wird
+ * abgeschnitten: ein Sudoku mit einer Vorgabe kostet etwa 100 ms, ein leeres fast 600 ms.
+ * <p>
+ * Nur für 9 * 9 Felder, andere Größen werden mit einer IllegalArgumentException abgelehnt.
+ * <p>
+ * Eine Instanz ist nicht threadsicher, da sie ihre Arbeitsarrays wiederverwendet.
+ */
+class SudokuCanonicalizer {
+
+  private static final int SIZE = 9;
+  private static final int BLOCK = 3;
+
+  // Das Sudoku und seine Spiegelung.
+  private final int[][][] grids = new int[2][SIZE][SIZE];
+  private int[][] grid;
+  // firstRowPattern() jeder Reihe beider Gitter.
+  private final int[][] patterns = new int[2][SIZE];
+  private final int[] columns = new int[SIZE];
+  private final boolean[] usedColumns = new boolean[SIZE];
+  private final boolean[] usedStacks = new boolean[BLOCK];
+  private final int[] stackOf = new int[BLOCK];
+  private int firstRow;
+  private final int[][] best = new int[SIZE][SIZE];
+  // Felder von best ab diesem Index (Reihe * 9 + Spalte) gehören zu keinem gültigen Pfad mehr und gelten als unendlich groß.
+  private int bestValid;
+  // Umbenennung der Zahlen nach der jeweiligen Reihe, labels[1] wird schon beim Wählen der Spalten aufgebaut.
+  private final int[][] labels = new int[SIZE + 1][SIZE + 1];
+  private final int[] nextLabel = new int[SIZE + 1];
+  private final boolean[] usedRows = new boolean[SIZE];
+  private final boolean[] usedBands = new boolean[BLOCK];
+  private final int[] bandOf = new int[BLOCK];
+
+  /**
+   * Berechnet die kanonische Form.
+   *
+   * @param sudokuMatrix Das Sudoku, leere Felder sind 0.
+   * @return Die kanonische Form als 81 Ziffern, Reihe für Reihe.
+   * @throws IllegalArgumentException Wenn das Sudoku nicht 9 * 9 Felder hat.
+   */
+  String canonicalForm(int[][] sudokuMatrix) {
+    this.canonicalize(sudokuMatrix);
+    StringBuilder builder = new StringBuilder(SIZE * SIZE);
+    for (int[] row : this.best) {
+      for (int number : row) {
+        builder.append((char) ('0' + number));
+      }
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Berechnet einen stabilen 64-Bit-Hash der kanonischen Form (FNV-1a), der für alle Varianten eines Sudokus gleich ist.
+   *
+   * @param sudokuMatrix Das Sudoku, leere Felder sind 0.
+   * @return Der Hash.
+   * @throws IllegalArgumentException Wenn das Sudoku nicht 9 * 9 Felder hat.
+   */
+  long canonicalHash(int[][] sudokuMatrix) {
+    this.canonicalize(sudokuMatrix);
+    long hash = 0xcbf29ce484222325L;
+    for (int[] row : this.best) {
+      for (int number : row) {
+        hash ^= number;
+        hash *= 0x100000001b3L;
+      }
+    }
+    return hash;
+  }
+
+  /**
+   * Füllt best mit der kanonischen Form.
+   *
+   * @param sudokuMatrix Das Sudoku.
+   * @throws IllegalArgumentException Wenn das Sudoku nicht 9 * 9 Felder hat.
+   */
+  private void canonicalize(int[][] sudokuMatrix) {
+    // Sonst würde von einem 16 * 16 oder 25 * 25 Sudoku nur die linke obere Ecke verglichen und verschiedene Sudokus gälten als gleich.
+    if (sudokuMatrix.length != SIZE) {
+      throw new IllegalArgumentException("Nur 9 * 9 Sudokus können kanonisiert werden, nicht " + sudokuMatrix.length + " * " + sudokuMatrix.length);
+    }
+    for (int row = 0; row < SIZE; row++) {
+      for (int column = 0; column < SIZE; column++) {
+        this.grids[0][row][column] = sudokuMatrix[row][column];
+        this.grids[1][column][row] = sudokuMatrix[row][column];
+      }
+    }
+    this.bestValid = 0;
+    int minPattern = Integer.MAX_VALUE;
+    for (int g = 0; g < this.grids.length; g++) {
+      for (int row = 0; row < SIZE; row++) {
+        this.patterns[g][row] = firstRowPattern(this.grids[g][row]);
+        minPattern = Math.min(minPattern, this.patterns[g][row]);
+      }
+    }
+    for (int g = 0; g < this.grids.length; g++) {
+      this.grid = this.grids[g];
+      for (int row = 0; row < SIZE; row++) {
+        if (this.patterns[g][row] != minPattern) {
+          // Die erste Reihe wäre schon größer als die der besten Startreihe.
+          continue;
+        }
+        this.firstRow = row;
+        this.usedRows[row] = true;
+        this.usedBands[row / BLOCK] = true;
+        this.bandOf[0] = row / BLOCK;
+        this.searchColumns(0, 0);
+        this.usedRows[row] = false;
+        this.usedBands[row / BLOCK] = false;
+      }
+    }
+  }
+
+  /**
+   * Bewertet eine Reihe als mögliche erste Reihe. Deren Vorgaben heißen immer 1, 2, 3, ... in der Reihenfolge der Spalten, die kleinste Form der Reihe hängt also nur
+   * davon ab wo sie leer ist: in jedem Stapel die leeren Felder vorne und die Stapel nach der Anzahl ihrer Vorgaben aufsteigend. Nur Reihen mit dem kleinsten Wert
+   * können zur kanonischen Form führen, bei erzeugten Sudokus bleiben so meist eine bis drei der 18 Startreihen übrig.
+   *
+   * @param values Die Reihe.
+   * @return Die nach Stapeln sortierten Anzahlen der Vorgaben als Zahl zur Basis 4, kleiner heißt kleinere erste Reihe.
+   */
+  private static int firstRowPattern(int[] values) {
+    int first = clues(values, 0);
+    int second = clues(values, 1);
+    int third = clues(values, 2);
+    int low = Math.min(first, Math.min(second, third));
+    int high = Math.max(first, Math.max(second, third));
+    int middle = first + second + third - low - high;
+    return (low * 4 + middle) * 4 + high;
+  }
+
+  /**
+   * @param values Die Reihe.
+   * @param stack Der Stapel.
+   * @return Die Anzahl der Vorgaben der Reihe in dem Stapel.
+   */
+  private static int clues(int[] values, int stack) {
+    int clues = 0;
+    for (int column = stack * BLOCK; column < stack * BLOCK + BLOCK; column++) {
+      if (values[column] != 0) {
+        clues++;
+      }
+    }
+    return clues;
+  }
+
+  /**
+   * Wählt die Spalte für die nächste Position der ersten Reihe. Ist die Spaltenanordnung vollständig, folgen die übrigen Reihen.
+   *
+   * @param position Die zu besetzende Spaltenposition (0 bis 8).
+   * @param next Die Anzahl der bisher vergebenen Zahlen.
+   */
+  private void searchColumns(int position, int next) {
+    if (position == SIZE) {
+      this.nextLabel[1] = next;
+      this.searchRows(1);
+      return;
+    }
+    int stackPosition = position / BLOCK;
+    if (position % BLOCK == 0) {
+      for (int stack = 0; stack < BLOCK; stack++) {
+        if (!this.usedStacks[stack]) {
+          this.usedStacks[stack] = true;
+          this.stackOf[stackPosition] = stack;
+          this.tryColumnsOfStack(position, stack, next);
+          this.usedStacks[stack] = false;
+        }
+      }
+    } else {
+      this.tryColumnsOfStack(position, this.stackOf[stackPosition], next);
+    }
+  }
+
+  /**
+   * Probiert alle noch freien Spalten eines Stapels an der Position der ersten Reihe aus.
+   *
+   * @param position Die zu besetzende Spaltenposition.
+   * @param stack Der Stapel.
+   * @param next Die Anzahl der bisher vergebenen Zahlen.
+   */
+  private void tryColumnsOfStack(int position, int stack, int next) {
+    int[] label = this.labels[1];
+    for (int column = stack * BLOCK; column < stack * BLOCK + BLOCK; column++) {
+      if (this.usedColumns[column]) {
+        continue;
+      }
+      int number = this.grid[this.firstRow][column];
+      boolean newLabel = number != 0 && label[number] == 0;
+      if (newLabel) {
+        label[number] = next + 1;
+      }
+      if (this.accept(position, number == 0 ? 0 : label[number])) {
+        this.usedColumns[column] = true;
+        this.columns[position] = column;
+        this.searchColumns(position + 1, newLabel ? next + 1 : next);
+        this.usedColumns[column] = false;
+      }
+      if (newLabel) {
+        label[number] = 0;
+      }
+    }
+  }
+
+  /**
+   * Vergleicht den nächsten Wert des Pfades mit best und übernimmt ihn, falls der Pfad kleiner ist.
+   *
+   * @param cell Der Index des Feldes in der kanonischen Form.
+   * @param value Der umbenannte Wert.
+   * @return False wenn der Pfad größer als best ist und abgebrochen werden kann.
+   */
+  private boolean accept(int cell, int value) {
+    int[] bestRow = this.best[cell / SIZE];
+    if (cell < this.bestValid) {
+      int current = bestRow[cell % SIZE];
+      if (value > current) {
+        return false;
+      }
+      if (value == current) {
+        return true;
+      }
+    }
+    bestRow[cell % SIZE] = value;
+    this.bestValid = cell + 1;
+    return true;
+  }
+
+  /**
+   * Wählt die Reihe für die nächste Position und steigt weiter ab, solange der Pfad nicht größer als best ist.
+   *
+   * @param position Die zu besetzende Position (0 bis 8).
+   */
+  private void searchRows(int position) {
+    if (position == SIZE) {
+      return;
+    }
+    int bandPosition = position / BLOCK;
+    if (position % BLOCK == 0) {
+      // Neues Band beginnt: jedes noch freie Band ist möglich.
+      for (int band = 0; band < BLOCK; band++) {
+        if (!this.usedBands[band]) {
+          this.usedBands[band] = true;
+          this.bandOf[bandPosition] = band;
+          this.tryRowsOfBand(position, band);
+          this.usedBands[band] = false;
+        }
+      }
+    } else {
+      this.tryRowsOfBand(position, this.bandOf[bandPosition]);
+    }
+  }
+
+  /**
+   * Probiert alle noch freien Reihen eines Bandes an der Position aus.
+   *
+   * @param position Die zu besetzende Position.
+   * @param band Das Band.
+   */
+  private void tryRowsOfBand(int position, int band) {
+    for (int row = band * BLOCK; row < band * BLOCK + BLOCK; row++) {
+      if (!this.usedRows[row] && this.placeRow(position, row)) {
+        this.usedRows[row] = true;
+        this.searchRows(position + 1);
+        this.usedRows[row] = false;
+      }
+    }
+  }
+
+  /**
+   * Benennt die Reihe um und vergleicht sie mit best. Ist sie kleiner, wird sie übernommen.
+   *
+   * @param position Die Position der Reihe.
+   * @param row Die Reihe im Sudoku.
+   * @return False wenn der Pfad dadurch größer als best wird und abgebrochen werden kann.
+   */
+  private boolean placeRow(int position, int row) {
+    int[] label = this.labels[position + 1];
+    System.arraycopy(this.labels[position], 0, label, 0, SIZE + 1);
+    int next = this.nextLabel[position];
+    int[] values = this.grid[row];
+    int[] bestRow = this.best[position];
+    // Felder der Reihe vor limit werden verglichen, sobald die Reihe kleiner ist nur noch übernommen.
+    int limit = this.bestValid - position * SIZE;
+    boolean smaller = false;
+    for (int i = 0; i < SIZE; i++) {
+      int number = values[this.columns[i]];
+      if (number != 0 && label[number] == 0) {
+        label[number] = ++next;
+      }
+      int value = number == 0 ? 0 : label[number];
+      if (!smaller && i < limit) {
+        if (value > bestRow[i]) {
+          return false;
+        }
+        if (value == bestRow[i]) {
+          continue;
+        }
+      }
+      bestRow[i] = value;
+      smaller = true;
+    }
+    if (smaller) {
+      this.bestValid = (position + 1) * SIZE;
+    }
+    this.nextLabel[position + 1] = next;
+    return true;
+  }
+}
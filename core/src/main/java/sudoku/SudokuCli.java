@@ -0,0 +1,145 @@
+package sudoku;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Die Kommandozeile ohne GUI: Optionen lesen, Sudoku-Dateien lösen, den HTTP-Dienst starten und Lasttests schicken. Die GUI liest ihre Optionen ebenfalls hier,
+ * startet aber nur wenn keiner dieser Modi gewählt ist.
+ */
+final class SudokuCli {
+
+  static final String SOLVER_OPTION = "--solver=";
+  static final String POOL_LOW_OPTION = "--pool-low=";
+  static final String POOL_HIGH_OPTION = "--pool-high=";
+  static final String POOL_VARIANTS_OPTION = "--pool-variants=";
+  static final String SOLVE_FILE_OPTION = "--solve-file=";
+  static final String OUTPUT_OPTION = "--output=";
+  static final String THREADS_OPTION = "--threads=";
+  static final String METRICS_OPTION = "--metrics";
+  static final String SERVE_OPTION = "--serve=";
+  static final String TIMEOUT_OPTION = "--timeout=";
+  static final String LOAD_TEST_OPTION = "--load-test=";
+  static final String CONCURRENCY_OPTION = "--concurrency=";
+  static final String REQUESTS_OPTION = "--requests=";
+
+  private String solverEngine = Sudoku.DEFAULT_SOLVER;
+  private int poolLow = 2;
+  private int poolHigh = 5;
+  private int poolVariants = 0;
+  private String solveFile;
+  private String output;
+  private int threads = Runtime.getRuntime().availableProcessors();
+  private int port = -1;
+  private long timeout = 1000;
+  private String loadTest;
+  private int concurrency = 16;
+  private int requests = 10000;
+
+  private SudokuCli() {
+  }
+
+  /**
+   * Main ohne GUI.
+   *
+   * @param args Die Optionen wie bei parse(), eine von --solve-file, --serve oder --load-test ist nötig.
+   */
+  public static void main(String[] args) throws IOException {
+    if (!parse(args).runHeadless()) {
+      System.err.println("Ohne GUI ist " + SOLVE_FILE_OPTION + "datei, " + SERVE_OPTION + "port oder " + LOAD_TEST_OPTION + "url nötig");
+      System.exit(2);
+    }
+  }
+
+  /**
+   * Liest die Optionen und meldet die Messwerte an, unbekannte Optionen werden ignoriert.
+   *
+   * @param args Optional --solver=backtracking|propagation|dlx zur Wahl des Lösungsverfahrens (Standard propagation) sowie --pool-low=n, --pool-high=n und
+   *     --pool-variants=n für den Vorrat an Sudokus. Mit --solve-file=datei [--output=datei] [--threads=n] [--timeout=ms] wird eine Sudoku-Datei gelöst, mit
+   *     höchstens timeout je Sudoku. --serve=port [--threads=n] [--timeout=ms] startet den HTTP-Dienst auf localhost, --load-test=url [--concurrency=n]
+   *     [--requests=n] schickt Last an einen laufenden Dienst. --metrics schaltet die Messwerte unter sudoku:type=Metrics ein, die sich sonst auch später über
+   *     JMX einschalten lassen.
+   * @return Die gelesenen Optionen.
+   */
+  static SudokuCli parse(String[] args) {
+    SudokuCli cli = new SudokuCli();
+    for (String arg : args) {
+      if (arg.startsWith(SOLVER_OPTION)) {
+        cli.solverEngine = arg.substring(SOLVER_OPTION.length());
+        // Prüft den Namen sofort statt erst beim ersten Klick auf Start.
+        Solver.create(cli.solverEngine, new int[Sudoku.DEFAULT_SIZE][Sudoku.DEFAULT_SIZE]);
+      } else if (arg.startsWith(POOL_LOW_OPTION)) {
+        cli.poolLow = Integer.parseInt(arg.substring(POOL_LOW_OPTION.length()));
+      } else if (arg.startsWith(POOL_HIGH_OPTION)) {
+        cli.poolHigh = Integer.parseInt(arg.substring(POOL_HIGH_OPTION.length()));
+      } else if (arg.startsWith(POOL_VARIANTS_OPTION)) {
+        cli.poolVariants = Integer.parseInt(arg.substring(POOL_VARIANTS_OPTION.length()));
+      } else if (arg.startsWith(SOLVE_FILE_OPTION)) {
+        cli.solveFile = arg.substring(SOLVE_FILE_OPTION.length());
+      } else if (arg.startsWith(OUTPUT_OPTION)) {
+        cli.output = arg.substring(OUTPUT_OPTION.length());
+      } else if (arg.startsWith(THREADS_OPTION)) {
+        cli.threads = Integer.parseInt(arg.substring(THREADS_OPTION.length()));
+      } else if (arg.equals(METRICS_OPTION)) {
+        SudokuMetrics.enabled = true;
+      } else if (arg.startsWith(SERVE_OPTION)) {
+        cli.port = Integer.parseInt(arg.substring(SERVE_OPTION.length()));
+      } else if (arg.startsWith(TIMEOUT_OPTION)) {
+        cli.timeout = Long.parseLong(arg.substring(TIMEOUT_OPTION.length()));
+      } else if (arg.startsWith(LOAD_TEST_OPTION)) {
+        cli.loadTest = arg.substring(LOAD_TEST_OPTION.length());
+      } else if (arg.startsWith(CONCURRENCY_OPTION)) {
+        cli.concurrency = Integer.parseInt(arg.substring(CONCURRENCY_OPTION.length()));
+      } else if (arg.startsWith(REQUESTS_OPTION)) {
+        cli.requests = Integer.parseInt(arg.substring(REQUESTS_OPTION.length()));
+      }
+    }
+    SudokuMetrics.register();
+    return cli;
+  }
+
+  /**
+   * Führt den gewählten Modus ohne GUI aus. Der HTTP-Dienst läuft danach weiter bis der Prozess beendet wird.
+   *
+   * @return False wenn keiner gewählt ist.
+   * @throws IOException Bei Fehlern beim Lesen oder Schreiben der Dateien oder wenn der Port nicht frei ist.
+   */
+  boolean runHeadless() throws IOException {
+    if (this.solveFile != null) {
+      Path input = Paths.get(this.solveFile);
+      Path target = Paths.get(this.output != null ? this.output : this.solveFile + ".solved");
+      long start = System.nanoTime();
+      long lines = new SudokuBatchSolver(this.solverEngine, this.threads, this.timeout).solveFile(input, target);
+      double seconds = (System.nanoTime() - start) / 1e9;
+      System.out.printf("%d Sudokus in %.1f s (%.0f pro Minute) nach %s geschrieben%n", lines, seconds, lines / seconds * 60, target);
+      return true;
+    }
+    if (this.loadTest != null) {
+      System.out.println(new SudokuLoadTest(URI.create(this.loadTest), this.concurrency, this.requests).run());
+      return true;
+    }
+    if (this.port >= 0) {
+      int actualPort = new SudokuServer(this.solverEngine, this.threads, this.timeout, this.startPool()).start(this.port);
+      System.out.println("Sudoku-Dienst auf http://localhost:" + actualPort);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Startet den Vorrat mit den Grenzen aus den Optionen.
+   *
+   * @return Der laufende Vorrat.
+   */
+  SudokuPool startPool() {
+    SudokuPool pool = new SudokuPool(this.solverEngine, this.poolLow, this.poolHigh, this.poolVariants);
+    pool.start();
+    return pool;
+  }
+
+  String getSolverEngine() {
+    return this.solverEngine;
+  }
+}
@@ -0,0 +1,45 @@
+package sudoku;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Merkt sich die kanonischen Hashes bereits erzeugter Sudokus, damit keine umbenannten, gespiegelten oder vertauschten Kopien doppelt ausgegeben werden.
+ * <p>
+ * Threadsicher, jeder Thread nutzt seinen eigenen SudokuCanonicalizer. Gespeichert werden nur die 64-Bit-Hashes, bei einer Million Sudokus liegt die
+ * Wahrscheinlichkeit einer Kollision bei etwa 3 * 10^-8.
+ * <p>
+ * Wie SudokuCanonicalizer nur für 9 * 9 Felder, die Kosten je Sudoku stehen dort.
+ */
+class SudokuDedupeIndex {
+
+  private final Set<Long> hashes = ConcurrentHashMap.newKeySet();
+  private final ThreadLocal<SudokuCanonicalizer> canonicalizers = ThreadLocal.withInitial(SudokuCanonicalizer::new);
+
+  /**
+   * Nimmt ein Sudoku in den Index auf.
+   *
+   * @param sudokuMatrix Das Sudoku.
+   * @return True wenn weder das Sudoku noch eine seiner Varianten schon enthalten war.
+   * @throws IllegalArgumentException Wenn das Sudoku nicht 9 * 9 Felder hat.
+   */
+  boolean add(int[][] sudokuMatrix) {
+    return this.hashes.add(this.canonicalizers.get().canonicalHash(sudokuMatrix));
+  }
+
+  /**
+   * @param sudokuMatrix Das Sudoku.
+   * @return True wenn das Sudoku oder eine seiner Varianten enthalten ist.
+   * @throws IllegalArgumentException Wenn das Sudoku nicht 9 * 9 Felder hat.
+   */
+  boolean contains(int[][] sudokuMatrix) {
+    return this.hashes.contains(this.canonicalizers.get().canonicalHash(sudokuMatrix));
+  }
+
+  /**
+   * @return Die Anzahl der verschiedenen Sudokus im Index.
+   */
+  int size() {
+    return this.hashes.size();
+  }
+}
@@ -0,0 +1,500 @@
+package sudoku;
+
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+public class SudokuGenerator {
+
+  // Suchschritte je Feld, die eine Eindeutigkeitsprüfung bei großen Sudokus höchstens kosten darf.
+  private static final int SEARCH_STEPS_PER_CELL = 4;
+  // Suchschritte die eine Eindeutigkeitsprüfung bei 9 * 9 Feldern höchstens kosten darf. Das Backtracking braucht bei einzelnen Prüfungen bis etwa 2^22 und
+  // stößt dann an die Grenze, die Zahl bleibt stehen. Die Propagation braucht kaum je 2^5. Die Grenze zählt Knoten statt Zeit, damit ein Seed auf jeder Maschine
+  // das gleiche Sudoku erzeugt.
+  private static final int SEARCH_STEPS_LIMIT = 1 << 20;
+  // Version der Seeds: ein Seed erzeugt nur mit derselben Version das gleiche Sudoku. Muss erhöht werden wenn sich bei gleichem Seed das Ergebnis ändert, z.B.
+  // durch SEARCH_STEPS_LIMIT oder die Grenzen der Bewertung. Version 2 führte SEARCH_STEPS_LIMIT und HARD_RATING = 90 ein, Seeds der Version 1 ergeben damit
+  // mit dem Backtracking bei einigen schweren Sudokus ein anderes Sudoku. Version 3 bewertet in Runden, damit ändert sich das gezielte Entfernen.
+  // Version 4 macht die Propagation zum Standardverfahren, ohne --solver ergibt jeder Seed ein anderes Sudoku. Mit --solver=backtracking bleiben die Seeds der
+  // Version 3 gültig.
+  static final int SEED_VERSION = 4;
+
+  private int difficulty;
+  private int rating;
+  private int depth;
+  private final int targetDifficulty;
+  private final boolean targeted;
+  private final String solverEngine;
+  private final SudokuGeometry geometry;
+  private Solver solver = null;
+  private int[][] sudokuMatrix;
+  private int[][] sudokuMatrixSolution;
+  private int removed;
+  // Eindeutigkeitsprüfungen und zurückgenommene Entfernungen des letzten generateSudoku(), für SudokuMetrics und JFR.
+  private int uniquenessChecks;
+  private int uniquenessRollbacks;
+  private int gradeRollbacks;
+  private final int[][] gradeMatrix;
+  // Bestimmt zusammen mit Schwierigkeitsgrad, Lösungsverfahren und Größe das erzeugte Sudoku vollständig.
+  private final long seed;
+
+  /**
+   * Setzt den Schwierigkeitsgrad fest.
+   *
+   * @param targetDifficulty Der gewünschte Schwierigkeitsgrad.
+   */
+  public SudokuGenerator(int targetDifficulty) {
+    this(targetDifficulty, Sudoku.DEFAULT_SOLVER);
+  }
+
+  /**
+   * Setzt den Schwierigkeitsgrad und das Lösungsverfahren fest.
+   *
+   * @param targetDifficulty Der gewünschte Schwierigkeitsgrad.
+   * @param solverEngine Das Lösungsverfahren (Sudoku.SOLVER_BACKTRACKING, Sudoku.SOLVER_PROPAGATION oder Sudoku.SOLVER_DLX).
+   */
+  public SudokuGenerator(int targetDifficulty, String solverEngine) {
+    this(targetDifficulty, solverEngine, false);
+  }
+
+  /**
+   * Setzt den Schwierigkeitsgrad, das Lösungsverfahren und die Art der Erzeugung fest.
+   * <p>
+   * Im gezielten Modus wird nach jeder entfernten Zahl mit dem HumanSolver bewertet und die Entfernung zurückgenommen, wenn das Sudoku dadurch schwerer als gewünscht wird.
+   * Für HARD wird aufgehört sobald der HumanSolver nicht mehr weiterkommt.
+   *
+   * @param targetDifficulty Der gewünschte Schwierigkeitsgrad.
+   * @param solverEngine Das Lösungsverfahren (Sudoku.SOLVER_BACKTRACKING, Sudoku.SOLVER_PROPAGATION oder Sudoku.SOLVER_DLX).
+   * @param targeted True für die gezielte Erzeugung.
+   */
+  public SudokuGenerator(int targetDifficulty, String solverEngine, boolean targeted) {
+    this(targetDifficulty, solverEngine, targeted, Sudoku.DEFAULT_SIZE);
+  }
+
+  /**
+   * Setzt den Schwierigkeitsgrad, das Lösungsverfahren, die Art der Erzeugung und die Größe fest.
+   * <p>
+   * Die Anzahl der Vorgaben ist für 9 * 9 Felder festgelegt und wird für größere Sudokus im gleichen Verhältnis übernommen.
+   *
+   * @param targetDifficulty Der gewünschte Schwierigkeitsgrad.
+   * @param solverEngine Das Lösungsverfahren (Sudoku.SOLVER_BACKTRACKING, Sudoku.SOLVER_PROPAGATION oder Sudoku.SOLVER_DLX).
+   * @param targeted True für die gezielte Erzeugung.
+   * @param size Die Anzahl der Reihen, z.B. 9, 16 oder 25.
+   */
+  public SudokuGenerator(int targetDifficulty, String solverEngine, boolean targeted, int size) {
+    this(targetDifficulty, solverEngine, targeted, size, ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * Setzt zusätzlich den Seed fest. Gleiche Parameter und gleicher Seed ergeben immer das gleiche Sudoku, unabhängig vom Thread und der Anzahl der Kerne.
+   *
+   * @param targetDifficulty Der gewünschte Schwierigkeitsgrad.
+   * @param solverEngine Das Lösungsverfahren (Sudoku.SOLVER_BACKTRACKING, Sudoku.SOLVER_PROPAGATION oder Sudoku.SOLVER_DLX).
+   * @param targeted True für die gezielte Erzeugung.
+   * @param size Die Anzahl der Reihen, z.B. 9, 16 oder 25.
+   * @param seed Der Seed für alle Zufallsentscheidungen.
+   */
+  public SudokuGenerator(int targetDifficulty, String solverEngine, boolean targeted, int size, long seed) {
+    this.seed = seed;
+    this.targetDifficulty = targetDifficulty;
+    this.targeted = targeted;
+    this.solverEngine = solverEngine;
+    this.geometry = SudokuGeometry.of(size);
+    this.sudokuMatrix = new int[size][size];
+    this.sudokuMatrixSolution = new int[size][size];
+    this.gradeMatrix = new int[size][size];
+    switch (targetDifficulty) {
+      case Sudoku.EASY:
+        // Maximale Suchtiefe.
+        this.depth = this.depthFor(33);
+        break;
+      case Sudoku.NORMAL:
+        // Maximale Suchtiefe.
+        this.depth = this.depthFor(25);
+        break;
+      case Sudoku.HARD:
+        // Maximale Suchtiefe.
+        this.depth = this.depthFor(17);
+        break;
+    }
+  }
+
+  /**
+   * Rechnet die Anzahl der Vorgaben eines 9 * 9 Sudokus auf die Größe um.
+   *
+   * @param givens Die Anzahl der Vorgaben bei 81 Feldern.
+   * @return Die Anzahl der zu entfernenden Zahlen.
+   */
+  private int depthFor(int givens) {
+    return this.geometry.cells - Math.round(this.geometry.cells * givens / 81f);
+  }
+
+  /**
+   * Meldet den Fortschritt von generate() nach jedem Versuch.
+   */
+  interface ProgressListener {
+
+    /**
+     * @param attempt Die Nummer des Versuchs, beginnend bei 1.
+     * @param removed Die Anzahl der in diesem Versuch entfernten Zahlen.
+     */
+    void progress(int attempt, int removed);
+  }
+
+  /**
+   * Erzeugt so lange neue Sudokus bis eines den gewünschten Schwierigkeitsgrad hat.
+   * <p>
+   * Jeder Versuch nutzt einen eigenen Generator, daher kann die Methode gleichzeitig aus mehreren Threads aufgerufen werden.
+   *
+   * @param targetDifficulty Der gewünschte Schwierigkeitsgrad.
+   * @param solverEngine Das Lösungsverfahren.
+   * @return Das erzeugte Sudoku.
+   */
+  static GeneratedSudoku generate(int targetDifficulty, String solverEngine) {
+    return generate(targetDifficulty, solverEngine, null);
+  }
+
+  /**
+   * Erzeugt so lange neue Sudokus bis eines den gewünschten Schwierigkeitsgrad hat und meldet dabei den Fortschritt.
+   * <p>
+   * Die Sudokus werden gezielt auf den Schwierigkeitsgrad hin erzeugt, damit kaum ganze Sudokus verworfen werden. Wird der aufrufende Thread unterbrochen, bricht
+   * die Erzeugung ab.
+   *
+   * @param targetDifficulty Der gewünschte Schwierigkeitsgrad.
+   * @param solverEngine Das Lösungsverfahren.
+   * @param listener Empfängt den Fortschritt, darf null sein.
+   * @return Das erzeugte Sudoku.
+   * @throws CancellationException Wenn der Thread unterbrochen wurde.
+   */
+  static GeneratedSudoku generate(int targetDifficulty, String solverEngine, ProgressListener listener) {
+    return generate(targetDifficulty, solverEngine, Sudoku.DEFAULT_SIZE, listener);
+  }
+
+  /**
+   * Erzeugt so lange neue Sudokus der angegebenen Größe bis eines den gewünschten Schwierigkeitsgrad hat und meldet dabei den Fortschritt.
+   *
+   * @param targetDifficulty Der gewünschte Schwierigkeitsgrad.
+   * @param solverEngine Das Lösungsverfahren, für 16 * 16 und größer sollte es Sudoku.SOLVER_DLX sein.
+   * @param size Die Anzahl der Reihen.
+   * @param listener Empfängt den Fortschritt, darf null sein.
+   * @return Das erzeugte Sudoku.
+   * @throws CancellationException Wenn der Thread unterbrochen wurde.
+   */
+  static GeneratedSudoku generate(int targetDifficulty, String solverEngine, int size, ProgressListener listener) {
+    return generate(targetDifficulty, solverEngine, size, ThreadLocalRandom.current().nextLong(), listener);
+  }
+
+  /**
+   * Erzeugt ein Sudoku aus einem Seed. Die Versuche bekommen ihre Seeds der Reihe nach aus einem SplittableRandom mit diesem Seed, daher ergibt der gleiche Seed
+   * mit gleichen Parametern immer das gleiche Sudoku.
+   *
+   * @param targetDifficulty Der gewünschte Schwierigkeitsgrad.
+   * @param solverEngine Das Lösungsverfahren.
+   * @param size Die Anzahl der Reihen.
+   * @param seed Der Seed der Erzeugung.
+   * @param listener Empfängt den Fortschritt, darf null sein.
+   * @return Das erzeugte Sudoku, mit dem Seed des passenden Versuchs für regenerate().
+   * @throws CancellationException Wenn der Thread unterbrochen wurde.
+   */
+  static GeneratedSudoku generate(int targetDifficulty, String solverEngine, int size, long seed, ProgressListener listener) {
+    return generate(targetDifficulty, solverEngine, size, seed, 0, Integer.MAX_VALUE, 0, listener);
+  }
+
+  /**
+   * Erzeugt ein Sudoku aus einem Seed, dessen Bewertung zusätzlich in einem engeren Bereich innerhalb des Schwierigkeitsgrades liegt. Versuche außerhalb des
+   * Bereichs werden verworfen, ein Bereich der zum Schwierigkeitsgrad nicht passt endet also nie.
+   *
+   * @param targetDifficulty Der gewünschte Schwierigkeitsgrad.
+   * @param solverEngine Das Lösungsverfahren.
+   * @param size Die Anzahl der Reihen.
+   * @param seed Der Seed der Erzeugung.
+   * @param minRating Die kleinste erlaubte Bewertung.
+   * @param maxRating Die größte erlaubte Bewertung.
+   * @param deadline Der Zeitpunkt nach System.nanoTime() ab dem kein neuer Versuch mehr beginnt, 0 für unbegrenzt.
+   * @param listener Empfängt den Fortschritt, darf null sein.
+   * @return Das erzeugte Sudoku, mit dem Seed des passenden Versuchs für regenerate().
+   * @throws CancellationException Wenn der Thread unterbrochen wurde oder die Frist abgelaufen ist.
+   */
+  static GeneratedSudoku generate(int targetDifficulty, String solverEngine, int size, long seed, int minRating, int maxRating, long deadline,
+      ProgressListener listener) {
+    if (minRating > maxRating) {
+      throw new IllegalArgumentException("minRating > maxRating");
+    }
+    SplittableRandom seeds = new SplittableRandom(seed);
+    int[][] matrix;
+    SudokuGenerator generator;
+    int attempt = 0;
+    long start = System.nanoTime();
+    SudokuMetrics.GenerateEvent event = new SudokuMetrics.GenerateEvent();
+    event.begin();
+    do {
+      if (Thread.currentThread().isInterrupted()) {
+        throw new CancellationException("Erzeugung abgebrochen");
+      }
+      // Geprüft wird nur vor jedem Versuch, die Frist kann also um die Dauer eines Versuchs überschritten werden.
+      if (deadline != 0 && System.nanoTime() - deadline >= 0) {
+        throw new CancellationException("Zeitlimit überschritten");
+      }
+      generator = new SudokuGenerator(targetDifficulty, solverEngine, true, size, seeds.nextLong());
+      matrix = generator.generateSudoku();
+      attempt++;
+      if (listener != null) {
+        listener.progress(attempt, generator.removed);
+      }
+    } while (targetDifficulty != generator.getDifficulty() || generator.getRating() < minRating || generator.getRating() > maxRating);
+    if (SudokuMetrics.enabled) {
+      SudokuMetrics.recordGenerate(attempt, System.nanoTime() - start);
+    }
+    if (event.shouldCommit()) {
+      event.size = size;
+      event.difficulty = targetDifficulty;
+      event.attempts = attempt;
+      event.commit();
+    }
+    return new GeneratedSudoku(matrix, generator.getSudokuMatrixSolution(), generator.getDifficulty(), generator.getRating(), OptionalLong.of(generator.seed));
+  }
+
+  /**
+   * Erzeugt ein Sudoku aus dem Seed von GeneratedSudoku.getSeed() in einem einzigen Versuch neu.
+   *
+   * @param seed Der gespeicherte Seed.
+   * @param targetDifficulty Der Schwierigkeitsgrad, mit dem das Sudoku erzeugt wurde.
+   * @param solverEngine Das Lösungsverfahren, mit dem das Sudoku erzeugt wurde.
+   * @param size Die Anzahl der Reihen.
+   * @return Das gleiche Sudoku wie beim ursprünglichen Erzeugen.
+   */
+  static GeneratedSudoku regenerate(long seed, int targetDifficulty, String solverEngine, int size) {
+    SudokuGenerator generator = new SudokuGenerator(targetDifficulty, solverEngine, true, size, seed);
+    int[][] matrix = generator.generateSudoku();
+    return new GeneratedSudoku(matrix, generator.getSudokuMatrixSolution(), generator.getDifficulty(), generator.getRating(), OptionalLong.of(seed));
+  }
+
+  /**
+   * Gibt den Ermittelten Schwierigkeitsgrad zurück.
+   */
+  public int getDifficulty() {
+    return difficulty;
+  }
+
+  /**
+   * Gibt die Bewertung des HumanSolvers zurück, feiner abgestuft als der Schwierigkeitsgrad.
+   *
+   * @return Die Summe der Kosten der angewendeten Techniken.
+   */
+  int getRating() {
+    return this.rating;
+  }
+
+  /**
+   * Erstellt das Sudoku.
+   *
+   * @return Das erstellte Sudoku.
+   * @throws CancellationException Wenn der Thread während des Entfernens unterbrochen wurde. Das halb ausgedünnte Sudoku passt nicht zu seinem Seed und wird
+   *     weder bewertet noch zurückgegeben.
+   */
+  int[][] generateSudoku() {
+    long start = System.nanoTime();
+    SudokuMetrics.AttemptEvent event = new SudokuMetrics.AttemptEvent();
+    event.begin();
+    // Eigene Zufallsquelle pro Generator aus dem Seed, damit parallele Generatoren nicht um eine gemeinsame konkurrieren und das Ergebnis reproduzierbar bleibt.
+    RandomGenerator random = new SplittableRandom(this.seed);
+    // Fülle unabhängige Blöcke.
+    for (int i = 0; i < this.geometry.size; i += this.geometry.blockSize) {
+      setBlockByPermutation(i, i, SudokuTransform.shuffle(random, this.geometry.size));
+    }
+    this.solver = Solver.create(this.solverEngine, sudokuMatrix);
+    solver.fill();
+    if (this.geometry.size > Sudoku.DEFAULT_SIZE) {
+      // Ab 16 * 16 werden einzelne Eindeutigkeitsprüfungen mit vielen leeren Feldern sehr teuer, solche Zahlen bleiben dann lieber stehen.
+      solver.setSearchLimit(SEARCH_STEPS_PER_CELL * this.geometry.cells);
+    } else {
+      // Auch bei 9 * 9 bleibt eine Zahl bei einer ausufernden Prüfung stehen, statt den Thread für Sekunden zu blockieren.
+      solver.setSearchLimit(SEARCH_STEPS_LIMIT);
+    }
+    sudokuMatrix = solver.getSudokuMatrix();
+    this.copyArray(sudokuMatrix, sudokuMatrixSolution);
+
+    // Einmal mischen reicht, die Felder werden danach der Reihe nach probiert.
+    int[] randomOrder = SudokuTransform.shuffle(random, this.geometry.cells);
+    this.removed = 0;
+    this.uniquenessChecks = 0;
+    this.uniquenessRollbacks = 0;
+    this.gradeRollbacks = 0;
+    this.removeRandomNumbers(this.depth, randomOrder);
+    if (Thread.currentThread().isInterrupted()) {
+      throw new CancellationException("Erzeugung abgebrochen");
+    }
+    int[][] solveMatrix = new int[this.geometry.size][this.geometry.size];
+
+    this.copyArray(sudokuMatrix, solveMatrix);
+    HumanSolver humanSolver = new HumanSolver(solveMatrix);
+    this.difficulty = humanSolver.getDifficulty();
+    this.rating = humanSolver.getRating();
+    if (SudokuMetrics.enabled) {
+      SudokuMetrics.recordAttempt(this.uniquenessChecks, this.uniquenessRollbacks, this.gradeRollbacks, System.nanoTime() - start);
+    }
+    if (event.shouldCommit()) {
+      event.size = this.geometry.size;
+      event.difficulty = this.difficulty;
+      event.removed = this.removed;
+      event.uniquenessChecks = this.uniquenessChecks;
+      event.uniquenessRollbacks = this.uniquenessRollbacks;
+      event.gradeRollbacks = this.gradeRollbacks;
+      event.searchNodes = this.solver.getSearchNodes();
+      event.searchBacktracks = this.solver.getSearchBacktracks();
+      event.commit();
+    }
+    return sudokuMatrix;
+  }
+
+  /**
+   * Gibt das gelöste Sudoku zurück.
+   *
+   * @return Das gelöste Sudoku.
+   */
+  public int[][] getSudokuMatrixSolution() {
+    return this.sudokuMatrixSolution;
+  }
+
+  /**
+   * Setzt die Werte für einen Block anhand einer Permutation.
+   *
+   * @param paramRow Die Reihe des Blocks.
+   * @param paramColumn Die Spalte des Blcoks.
+   * @param permutation Die zu setzenden Werte, jeweils um 1 kleiner.
+   */
+  private void setBlockByPermutation(int paramRow, int paramColumn, int[] permutation) {
+    int blockSize = this.geometry.blockSize;
+    paramRow -= paramRow % blockSize;
+    paramColumn -= paramColumn % blockSize;
+    int index = 0;
+    for (int row = paramRow; row < paramRow + blockSize; row++) {
+      for (int column = paramColumn; column < paramColumn + blockSize; column++) {
+        sudokuMatrix[row][column] = permutation[index] + 1;
+        index++;
+      }
+    }
+  }
+
+  /**
+   * Kopiert die Werte eines Array.
+   *
+   * @param srcArray Quellarray.
+   * @param destArray Zielarray.
+   */
+  private void copyArray(int[][] srcArray, int[][] destArray) {
+    for (int row = 0; row < this.geometry.size; row++) {
+      System.arraycopy(srcArray[row], 0, destArray[row], 0, this.geometry.size);
+    }
+  }
+
+  /**
+   * Entfernt Zahlen des Sudokus in der vorgegebenen Reihenfolge, solange es eindeutig lösbar bleibt.
+   * <p>
+   * Da die Lösung bekannt ist, muss nach dem Leeren eines Feldes nur geprüft werden ob eine andere Zahl in diesem Feld ebenfalls zu einer Lösung führt. Jede dieser
+   * Prüfungen bricht nach der ersten gefundenen Lösung ab, statt wie isUnique() nach einer zweiten zu suchen.
+   *
+   * @param depth Die Anzahl der zu entfernenden Zahlen.
+   * @param randomOrder Alle Feldnummern in zufälliger Reihenfolge bei der jede Zahl ein Feld darstellt.
+   * @return Gibt True zurück wenn die gewünschte Tiefe erreicht ist. False wenn die Liste keine Werte mehr hat.
+   */
+  private boolean removeRandomNumbers(int depth, final int[] randomOrder) {
+    for (int field : randomOrder) {
+      // Endet wenn die Zieltiefe erreicht ist, jedes Feld wird höchstens einmal probiert.
+      if (depth == 0) {
+        return true;
+      }
+      // Ein abgebrochener Versuch wird von generateSudoku() verworfen.
+      if (Thread.currentThread().isInterrupted()) {
+        return false;
+      }
+      // Reihe und Spalte anhand der Feld nummer.
+      int row = field / this.geometry.size;
+      int column = field % this.geometry.size;
+
+      // Zwischenspeichern der aktuellen Nummer.
+      int previousNumber = sudokuMatrix[row][column];
+      sudokuMatrix[row][column] = 0;
+      this.uniquenessChecks++;
+      if (!this.hasOnlyNumber(row, column, previousNumber)) {
+        // Zurücksetzten auf die vorherige Nummer.
+        sudokuMatrix[row][column] = previousNumber;
+        this.uniquenessRollbacks++;
+        continue;
+      }
+      if (this.targeted) {
+        int grade = this.grade();
+        if (grade > this.targetDifficulty) {
+          // Zu schwer geworden, die Entfernung wird zurückgenommen.
+          sudokuMatrix[row][column] = previousNumber;
+          this.gradeRollbacks++;
+          continue;
+        }
+        if (grade == Sudoku.HARD) {
+          // Schwerer wird es nicht, weiteres Entfernen bringt nichts.
+          this.removed++;
+          return true;
+        }
+      }
+      depth--;
+      this.removed++;
+    }
+    // Liste ist leer, die Zieltiefe wurde nur erreicht wenn das letzte Feld gepasst hat.
+    return depth == 0;
+  }
+
+  /**
+   * Bewertet das aktuelle Sudoku mit dem HumanSolver auf einer Kopie.
+   *
+   * @return Der Schwierigkeitsgrad.
+   */
+  private int grade() {
+    this.copyArray(sudokuMatrix, gradeMatrix);
+    return new HumanSolver(gradeMatrix).getDifficulty();
+  }
+
+  /**
+   * Prüft ob das geleerte Feld nur mit seiner ursprünglichen Nummer lösbar ist.
+   *
+   * @param row Die Reihe des geleerten Feldes.
+   * @param column Die Spalte des geleerten Feldes.
+   * @param number Die Nummer der bekannten Lösung.
+   * @return True wenn keine andere Nummer zu einer Lösung führt, das Sudoku also eindeutig bleibt.
+   */
+  private boolean hasOnlyNumber(int row, int column, int number) {
+    int alternatives = this.allowedNumbers(row, column) & ~(1 << number);
+    while (alternatives != 0) {
+      int alternative = Integer.numberOfTrailingZeros(alternatives);
+      alternatives &= alternatives - 1;
+      sudokuMatrix[row][column] = alternative;
+      boolean solvable = this.solver.isSolvable();
+      sudokuMatrix[row][column] = 0;
+      if (solvable) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Ermittelt welche Nummern in dem Feld nicht gegen Reihe, Spalte oder Block verstoßen.
+   *
+   * @param row Die zu prüfende Reihe.
+   * @param column Die zu prüfende Spalte.
+   * @return Bitmaske der erlaubten Nummern (Bit n steht für die Zahl n).
+   */
+  private int allowedNumbers(int row, int column) {
+    int used = 0;
+    int blockSize = this.geometry.blockSize;
+    int blockRow = row - row % blockSize;
+    int blockColumn = column - column % blockSize;
+    for (int i = 0; i < this.geometry.size; i++) {
+      used |= 1 << sudokuMatrix[row][i];
+      used |= 1 << sudokuMatrix[i][column];
+      used |= 1 << sudokuMatrix[blockRow + i / blockSize][blockColumn + i % blockSize];
+    }
+    return ~used & this.geometry.allNumbers;
+  }
+}
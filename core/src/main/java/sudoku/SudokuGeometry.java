@@ -0,0 +1,115 @@
+package sudoku;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aufbau eines Sudokus mit SIZE * SIZE Feldern und Blöcken der Größe sqrt(SIZE) * sqrt(SIZE), z.B. 9 * 9, 16 * 16 oder 25 * 25.
+ * <p>
+ * Enthält die Tabellen die alle Löser brauchen. Sie werden einmal pro Größe berechnet und danach geteilt, die Arrays dürfen daher nicht verändert werden.
+ */
+final class SudokuGeometry {
+
+  // Bit n steht für die Zahl n, größere Sudokus passen nicht in ein int.
+  private static final int MAX_SIZE = 30;
+  private static final Map<Integer, SudokuGeometry> GEOMETRIES = new ConcurrentHashMap<>();
+
+  final int size;
+  final int blockSize;
+  final int cells;
+  // Bitmaske mit allen Zahlen von 1 bis size.
+  final int allNumbers;
+
+  // Reihe, Spalte und Block jedes Feldes (Feldnummer = Reihe * size + Spalte).
+  final int[] rowOf;
+  final int[] columnOf;
+  final int[] blockOf;
+  // Die Felder jeder Einheit: zuerst die Reihen, dann die Spalten, dann die Blöcke.
+  final int[][] units;
+  final int rows;
+  final int columns;
+  final int blocks;
+  // Die Einheiten (Reihe, Spalte, Block) und die Nachbarfelder jedes Feldes.
+  final int[][] unitsOf;
+  final int[][] peers;
+
+  private SudokuGeometry(int size, int blockSize) {
+    this.size = size;
+    this.blockSize = blockSize;
+    this.cells = size * size;
+    this.allNumbers = ((1 << size) - 1) << 1;
+    this.rows = 0;
+    this.columns = size;
+    this.blocks = 2 * size;
+    this.rowOf = new int[this.cells];
+    this.columnOf = new int[this.cells];
+    this.blockOf = new int[this.cells];
+    this.units = new int[3 * size][size];
+    this.unitsOf = new int[this.cells][3];
+    this.peers = new int[this.cells][];
+
+    for (int cell = 0; cell < this.cells; cell++) {
+      int row = cell / size;
+      int column = cell % size;
+      int block = (row / blockSize) * blockSize + column / blockSize;
+      int blockPosition = (row % blockSize) * blockSize + column % blockSize;
+      this.rowOf[cell] = row;
+      this.columnOf[cell] = column;
+      this.blockOf[cell] = block;
+      this.units[this.rows + row][column] = cell;
+      this.units[this.columns + column][row] = cell;
+      this.units[this.blocks + block][blockPosition] = cell;
+      this.unitsOf[cell][0] = this.rows + row;
+      this.unitsOf[cell][1] = this.columns + column;
+      this.unitsOf[cell][2] = this.blocks + block;
+    }
+    for (int cell = 0; cell < this.cells; cell++) {
+      int[] cellPeers = new int[3 * (size - 1) - 2 * (blockSize - 1)];
+      int count = 0;
+      for (int other = 0; other < this.cells; other++) {
+        if (other != cell && (this.rowOf[other] == this.rowOf[cell] || this.columnOf[other] == this.columnOf[cell] || this.blockOf[other] == this.blockOf[cell])) {
+          cellPeers[count++] = other;
+        }
+      }
+      this.peers[cell] = cellPeers;
+    }
+  }
+
+  /**
+   * Gibt den Aufbau für eine Größe zurück.
+   *
+   * @param size Die Anzahl der Reihen, muss eine Quadratzahl sein.
+   * @return Der Aufbau.
+   * @throws IllegalArgumentException Wenn es für die Größe kein Sudoku gibt.
+   */
+  static SudokuGeometry of(int size) {
+    SudokuGeometry geometry = GEOMETRIES.get(size);
+    if (geometry != null) {
+      return geometry;
+    }
+    int blockSize = (int) Math.round(Math.sqrt(size));
+    if (blockSize < 2 || blockSize * blockSize != size || size > MAX_SIZE) {
+      throw new IllegalArgumentException("Ungültige Sudokugröße: " + size);
+    }
+    return GEOMETRIES.computeIfAbsent(size, key -> new SudokuGeometry(size, blockSize));
+  }
+
+  /**
+   * Gibt den Aufbau passend zu einer Matrix zurück.
+   *
+   * @param sudokuMatrix Die Sudokumatrix.
+   * @return Der Aufbau.
+   */
+  static SudokuGeometry of(int[][] sudokuMatrix) {
+    return of(sudokuMatrix.length);
+  }
+
+  /**
+   * @param row Die Reihe.
+   * @param column Die Spalte.
+   * @return Der Block des Feldes.
+   */
+  int blockOf(int row, int column) {
+    return this.blockOf[row * this.size + column];
+  }
+}
@@ -0,0 +1,40 @@
+package sudoku;
+
+/**
+ * Der nächste logische Schritt: welche Zahl in welches Feld gehört und mit welcher Technik sie sich ergibt.
+ */
+final class SudokuHint {
+
+  private final int row;
+  private final int column;
+  private final int number;
+  private final SudokuTechnique technique;
+
+  SudokuHint(int row, int column, int number, SudokuTechnique technique) {
+    this.row = row;
+    this.column = column;
+    this.number = number;
+    this.technique = technique;
+  }
+
+  int getRow() {
+    return this.row;
+  }
+
+  int getColumn() {
+    return this.column;
+  }
+
+  int getNumber() {
+    return this.number;
+  }
+
+  SudokuTechnique getTechnique() {
+    return this.technique;
+  }
+
+  @Override
+  public String toString() {
+    return "Reihe " + (this.row + 1) + ", Spalte " + (this.column + 1) + ": " + this.number + " (" + this.technique.getLabel() + ")";
+  }
+}
@@ -0,0 +1,147 @@
+package sudoku;
+
+/**
+ * Findet den nächsten logischen Schritt im aktuellen Spielstand mit den drei einfachsten Techniken des HumanSolvers: Naked Single, Hidden Single und Naked Pair.
+ * <p>
+ * Anders als der HumanSolver löst der HintEngine nicht bis zum Ende, sondern hört beim ersten Schritt auf. Der Spielstand wird in einem CandidateBoard
+ * gehalten, bei jeder Anfrage werden nur die geänderten Felder übernommen. Hat sich nichts geändert, kommt der letzte Tipp direkt zurück. Nicht threadsicher,
+ * gedacht für den EDT.
+ */
+class SudokuHintEngine {
+
+  private CandidateBoard board;
+  // Kandidaten nach dem Ausschluss durch Naked Pairs, wird nur während der Suche verwendet.
+  private int[] reduced;
+  // Der letzte Tipp, gilt solange sich der Spielstand nicht ändert.
+  private SudokuHint hint;
+  private boolean searched;
+
+  /**
+   * Sucht den nächsten Schritt.
+   *
+   * @param sudokuMatrix Der Spielstand, leere Felder sind 0. Wird nicht verändert.
+   * @return Der Tipp, null wenn das Sudoku gelöst ist, eine Zahl doppelt in einer Einheit steht, ein Feld keinen Kandidaten mehr hat oder die Techniken nicht weiterkommen.
+   */
+  SudokuHint next(int[][] sudokuMatrix) {
+    if (this.board == null || this.board.getGeometry().size != sudokuMatrix.length) {
+      this.board = new CandidateBoard(sudokuMatrix.length);
+      this.reduced = new int[this.board.getGeometry().cells];
+      this.searched = false;
+    }
+    if (this.board.sync(sudokuMatrix) == 0 && this.searched) {
+      return this.hint;
+    }
+    this.hint = this.find();
+    this.searched = true;
+    return this.hint;
+  }
+
+  /**
+   * @return Der erste Schritt mit der einfachsten möglichen Technik oder null.
+   */
+  private SudokuHint find() {
+    if (this.board.hasConflicts()) {
+      // Eine doppelte Zahl macht jeden weiteren Schritt wertlos, zuerst muss sie weg.
+      return null;
+    }
+    SudokuGeometry geometry = this.board.getGeometry();
+    for (int cell = 0; cell < geometry.cells; cell++) {
+      int candidates = this.board.candidates(cell);
+      this.reduced[cell] = candidates;
+      if (this.board.get(cell) == 0 && candidates == 0) {
+        // Widerspruch, hier hilft kein logischer Schritt mehr.
+        return null;
+      }
+    }
+    SudokuHint hint = this.findNakedSingle(SudokuTechnique.NAKED_SINGLE);
+    if (hint == null) {
+      hint = this.findHiddenSingle(SudokuTechnique.HIDDEN_SINGLE);
+    }
+    if (hint == null && this.eliminateNakedPairs()) {
+      // Ein Naked Pair setzt selbst keine Zahl, der Tipp ist das Single das erst durch den Ausschluss entsteht.
+      hint = this.findNakedSingle(SudokuTechnique.NAKED_PAIR);
+      if (hint == null) {
+        hint = this.findHiddenSingle(SudokuTechnique.NAKED_PAIR);
+      }
+    }
+    return hint;
+  }
+
+  /**
+   * @param technique Die Technik die der Tipp nennt.
+   * @return Das erste Feld mit nur noch einem Kandidaten oder null.
+   */
+  private SudokuHint findNakedSingle(SudokuTechnique technique) {
+    for (int cell = 0; cell < this.reduced.length; cell++) {
+      int candidates = this.reduced[cell];
+      if (candidates != 0 && (candidates & (candidates - 1)) == 0) {
+        return this.hint(cell, Integer.numberOfTrailingZeros(candidates), technique);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Sucht zuerst in den Blöcken, dann in Reihen und Spalten, da Spieler Hidden Singles meist im Block sehen.
+   *
+   * @param technique Die Technik die der Tipp nennt.
+   * @return Die erste Zahl die in einer Einheit nur in einem Feld möglich ist oder null.
+   */
+  private SudokuHint findHiddenSingle(SudokuTechnique technique) {
+    SudokuGeometry geometry = this.board.getGeometry();
+    int units = geometry.units.length;
+    for (int i = 0; i < units; i++) {
+      int unit = (geometry.blocks + i) % units;
+      int once = 0;
+      int twice = 0;
+      for (int cell : geometry.units[unit]) {
+        twice |= once & this.reduced[cell];
+        once |= this.reduced[cell];
+      }
+      int single = once & ~twice;
+      if (single != 0) {
+        int number = Integer.numberOfTrailingZeros(single);
+        for (int cell : geometry.units[unit]) {
+          if ((this.reduced[cell] & 1 << number) != 0) {
+            return this.hint(cell, number, technique);
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Schließt die Zahlen jedes Naked Pairs im Rest seiner Einheit aus.
+   *
+   * @return True wenn dabei Kandidaten weggefallen sind.
+   */
+  private boolean eliminateNakedPairs() {
+    SudokuGeometry geometry = this.board.getGeometry();
+    boolean eliminated = false;
+    for (int[] unit : geometry.units) {
+      for (int i = 0; i < unit.length; i++) {
+        int pair = this.reduced[unit[i]];
+        if (Integer.bitCount(pair) != 2) {
+          continue;
+        }
+        for (int j = i + 1; j < unit.length; j++) {
+          if (this.reduced[unit[j]] == pair) {
+            for (int cell : unit) {
+              if (this.reduced[cell] != pair && (this.reduced[cell] & pair) != 0) {
+                this.reduced[cell] &= ~pair;
+                eliminated = true;
+              }
+            }
+          }
+        }
+      }
+    }
+    return eliminated;
+  }
+
+  private SudokuHint hint(int cell, int number, SudokuTechnique technique) {
+    SudokuGeometry geometry = this.board.getGeometry();
+    return new SudokuHint(geometry.rowOf[cell], geometry.columnOf[cell], number, technique);
+  }
+}
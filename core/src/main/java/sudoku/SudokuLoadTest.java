@@ -0,0 +1,134 @@
+package sudoku;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lasttest für den SudokuServer: schickt eine feste Anzahl gleicher GET-Anfragen mit einer festen Anzahl paralleler Clients und meldet Median, 99. Perzentil und
+ * Anfragen pro Sekunde.
+ * <p>
+ * Jeder Client schickt seine nächste Anfrage erst nach der Antwort auf die vorige, die Last ist also geschlossen. Alle Laufzeiten werden einzeln gespeichert und
+ * am Ende sortiert, die Perzentile sind deshalb exakt. Nur Ziele auf localhost sind erlaubt.
+ */
+class SudokuLoadTest {
+
+  private final URI target;
+  private final int concurrency;
+  private final int requests;
+
+  /**
+   * @param target Die URL einer Anfrage, z.B. http://localhost:8080/generate?difficulty=easy.
+   * @param concurrency Die Anzahl paralleler Clients.
+   * @param requests Die Anzahl aller Anfragen.
+   * @throws IOException Wenn das Ziel nicht auf localhost liegt.
+   */
+  SudokuLoadTest(URI target, int concurrency, int requests) throws IOException {
+    if (target.getHost() == null || !InetAddress.getByName(target.getHost()).isLoopbackAddress()) {
+      throw new IOException("Lasttest nur gegen localhost: " + target);
+    }
+    if (concurrency < 1 || requests < 1) {
+      throw new IllegalArgumentException("Parallelität und Anzahl müssen positiv sein");
+    }
+    this.target = target;
+    this.concurrency = concurrency;
+    this.requests = requests;
+  }
+
+  /**
+   * Führt den Lasttest aus.
+   *
+   * @return Das Ergebnis.
+   * @throws IOException Wenn ein Client abbricht, z.B. weil der Dienst nicht läuft.
+   */
+  Result run() throws IOException {
+    HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    HttpRequest request = HttpRequest.newBuilder(this.target).GET().build();
+    long[] latencies = new long[this.requests];
+    AtomicInteger next = new AtomicInteger();
+    AtomicInteger errors = new AtomicInteger();
+    ExecutorService executor = SudokuServer.newRequestExecutor();
+    List<Future<?>> clients = new ArrayList<>();
+    long start = System.nanoTime();
+    try {
+      for (int i = 0; i < this.concurrency; i++) {
+        clients.add(executor.submit(() -> {
+          // Jeder Index gehört genau einem Client, das Array braucht deshalb keine Synchronisation.
+          for (int index = next.getAndIncrement(); index < this.requests; index = next.getAndIncrement()) {
+            long sent = System.nanoTime();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            latencies[index] = System.nanoTime() - sent;
+            if (response.statusCode() != 200) {
+              errors.incrementAndGet();
+            }
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : clients) {
+        future.get();
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Lasttest unterbrochen", ex);
+    } catch (ExecutionException ex) {
+      throw new IOException("Anfrage an " + this.target + " fehlgeschlagen: " + ex.getCause().getMessage(), ex.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+    long elapsed = System.nanoTime() - start;
+    Arrays.sort(latencies);
+    return new Result(this.requests, errors.get(), elapsed, percentile(latencies, 50), percentile(latencies, 99));
+  }
+
+  /**
+   * @param sorted Die sortierten Laufzeiten.
+   * @param percent Das Perzentil.
+   * @return Die kleinste Laufzeit, unter oder auf der mindestens percent Prozent liegen.
+   */
+  private static long percentile(long[] sorted, int percent) {
+    int rank = (int) Math.ceil(sorted.length * percent / 100.0);
+    return sorted[Math.max(rank, 1) - 1];
+  }
+
+  /**
+   * Das Ergebnis eines Lasttests.
+   */
+  static final class Result {
+
+    final int requests;
+    // Antworten mit einem anderen Status als 200.
+    final int errors;
+    final long elapsedNanos;
+    final long p50Nanos;
+    final long p99Nanos;
+
+    Result(int requests, int errors, long elapsedNanos, long p50Nanos, long p99Nanos) {
+      this.requests = requests;
+      this.errors = errors;
+      this.elapsedNanos = elapsedNanos;
+      this.p50Nanos = p50Nanos;
+      this.p99Nanos = p99Nanos;
+    }
+
+    double requestsPerSecond() {
+      return this.requests / (this.elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%d Anfragen (%d Fehler) in %.1f s: p50 %.2f ms, p99 %.2f ms, %.0f Anfragen/s", this.requests, this.errors, this.elapsedNanos / 1e9,
+          this.p50Nanos / 1e6, this.p99Nanos / 1e6, this.requestsPerSecond());
+    }
+  }
+}
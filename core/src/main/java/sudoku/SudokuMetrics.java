@@ -0,0 +1,323 @@
+package sudoku;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Sammelt Zähler und Laufzeiten von Solver, Generator und HumanSolver und stellt sie über JMX bereit.
+ * <p>
+ * Die gemessenen Klassen zählen in eigenen Feldern ohne Synchronisation und melden nur am Ende eines Aufrufs, und das nur wenn enabled gesetzt ist. Ausgeschaltet
+ * kostet die Messung also eine Abfrage je Aufruf und ein paar Additionen in der Suche. Unabhängig davon erzeugt der Generator JFR-Events, die nur bei laufender
+ * Aufzeichnung geschrieben werden.
+ */
+final class SudokuMetrics implements SudokuMetricsMXBean {
+
+  static final String OBJECT_NAME = "sudoku:type=Metrics";
+
+  private static final SudokuMetrics INSTANCE = new SudokuMetrics();
+
+  // Schaltet das Melden an die Zähler ein, über --metrics oder JMX.
+  static volatile boolean enabled;
+
+  private static final LongAdder searches = new LongAdder();
+  private static final LongAdder searchNodes = new LongAdder();
+  private static final LongAdder searchBacktracks = new LongAdder();
+  private static final LatencyHistogram searchLatency = new LatencyHistogram();
+
+  private static final LongAdder attempts = new LongAdder();
+  private static final LongAdder uniquenessChecks = new LongAdder();
+  private static final LongAdder uniquenessRollbacks = new LongAdder();
+  private static final LongAdder gradeRollbacks = new LongAdder();
+  private static final LatencyHistogram attemptLatency = new LatencyHistogram();
+
+  private static final LongAdder generations = new LongAdder();
+  private static final LongAdder rejectedSudokus = new LongAdder();
+  private static final LatencyHistogram generateLatency = new LatencyHistogram();
+
+  private static final LongAdder grades = new LongAdder();
+  // Anwendungen je Technik, Index SudokuTechnique.ordinal().
+  private static final LongAdder[] techniqueHits = new LongAdder[SudokuTechnique.values().length];
+
+  static {
+    for (int i = 0; i < techniqueHits.length; i++) {
+      techniqueHits[i] = new LongAdder();
+    }
+  }
+
+  private SudokuMetrics() {
+  }
+
+  /**
+   * Meldet die Messwerte beim MBeanServer der JVM an. Ein zweiter Aufruf ändert nichts.
+   */
+  static void register() {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+    } catch (InstanceAlreadyExistsException e) {
+      // Schon angemeldet.
+    } catch (JMException e) {
+      throw new IllegalStateException("Messwerte konnten nicht angemeldet werden", e);
+    }
+  }
+
+  /**
+   * @return Die Messwerte, z.B. zum Auslesen ohne JMX.
+   */
+  static SudokuMetrics get() {
+    return INSTANCE;
+  }
+
+  /**
+   * Meldet einen Aufruf von solve(), isSolvable() oder fill().
+   *
+   * @param nodes Besuchte Knoten.
+   * @param backtracks Zurückgenommene Zahlen bzw. Zeilen.
+   * @param nanos Laufzeit.
+   */
+  static void recordSearch(long nodes, long backtracks, long nanos) {
+    searches.increment();
+    searchNodes.add(nodes);
+    searchBacktracks.add(backtracks);
+    searchLatency.record(nanos);
+  }
+
+  /**
+   * Meldet ein von generateSudoku() erzeugtes Sudoku.
+   *
+   * @param checks Eindeutigkeitsprüfungen.
+   * @param uniquenessRollbacks Wegen Mehrdeutigkeit zurückgenommene Entfernungen.
+   * @param gradeRollbacks Wegen des Schwierigkeitsgrads zurückgenommene Entfernungen.
+   * @param nanos Laufzeit.
+   */
+  static void recordAttempt(int checks, int uniquenessRollbacks, int gradeRollbacks, long nanos) {
+    attempts.increment();
+    uniquenessChecks.add(checks);
+    SudokuMetrics.uniquenessRollbacks.add(uniquenessRollbacks);
+    SudokuMetrics.gradeRollbacks.add(gradeRollbacks);
+    attemptLatency.record(nanos);
+  }
+
+  /**
+   * Meldet einen abgeschlossenen Aufruf von SudokuGenerator.generate().
+   *
+   * @param attempts Erzeugte Sudokus inklusive des passenden.
+   * @param nanos Laufzeit.
+   */
+  static void recordGenerate(int attempts, long nanos) {
+    generations.increment();
+    rejectedSudokus.add(attempts - 1);
+    generateLatency.record(nanos);
+  }
+
+  /**
+   * Meldet eine Bewertung durch den HumanSolver.
+   *
+   * @param hits Anwendungen je Technik, Index SudokuTechnique.ordinal().
+   */
+  static void recordGrade(int[] hits) {
+    grades.increment();
+    for (int i = 0; i < hits.length; i++) {
+      if (hits[i] != 0) {
+        techniqueHits[i].add(hits[i]);
+      }
+    }
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public void setEnabled(boolean enabled) {
+    SudokuMetrics.enabled = enabled;
+  }
+
+  @Override
+  public void reset() {
+    for (LongAdder adder : new LongAdder[]{searches, searchNodes, searchBacktracks, attempts, uniquenessChecks, uniquenessRollbacks, gradeRollbacks, generations,
+        rejectedSudokus, grades}) {
+      adder.reset();
+    }
+    for (LongAdder adder : techniqueHits) {
+      adder.reset();
+    }
+    searchLatency.reset();
+    attemptLatency.reset();
+    generateLatency.reset();
+  }
+
+  @Override
+  public long getSearches() {
+    return searches.sum();
+  }
+
+  @Override
+  public long getSearchNodes() {
+    return searchNodes.sum();
+  }
+
+  @Override
+  public long getSearchBacktracks() {
+    return searchBacktracks.sum();
+  }
+
+  @Override
+  public double getSearchP50Millis() {
+    return searchLatency.quantileMillis(0.5);
+  }
+
+  @Override
+  public double getSearchP99Millis() {
+    return searchLatency.quantileMillis(0.99);
+  }
+
+  @Override
+  public long[] getSearchHistogram() {
+    return searchLatency.snapshot();
+  }
+
+  @Override
+  public long getAttempts() {
+    return attempts.sum();
+  }
+
+  @Override
+  public long getUniquenessChecks() {
+    return uniquenessChecks.sum();
+  }
+
+  @Override
+  public long getUniquenessRollbacks() {
+    return uniquenessRollbacks.sum();
+  }
+
+  @Override
+  public long getGradeRollbacks() {
+    return gradeRollbacks.sum();
+  }
+
+  @Override
+  public double getAttemptP50Millis() {
+    return attemptLatency.quantileMillis(0.5);
+  }
+
+  @Override
+  public double getAttemptP99Millis() {
+    return attemptLatency.quantileMillis(0.99);
+  }
+
+  @Override
+  public long[] getAttemptHistogram() {
+    return attemptLatency.snapshot();
+  }
+
+  @Override
+  public long getGenerations() {
+    return generations.sum();
+  }
+
+  @Override
+  public long getRejectedSudokus() {
+    return rejectedSudokus.sum();
+  }
+
+  @Override
+  public double getYield() {
+    long generations = SudokuMetrics.generations.sum();
+    long attempted = generations + rejectedSudokus.sum();
+    return attempted == 0 ? 1 : (double) generations / attempted;
+  }
+
+  @Override
+  public double getGenerateP50Millis() {
+    return generateLatency.quantileMillis(0.5);
+  }
+
+  @Override
+  public double getGenerateP99Millis() {
+    return generateLatency.quantileMillis(0.99);
+  }
+
+  @Override
+  public long[] getGenerateHistogram() {
+    return generateLatency.snapshot();
+  }
+
+  @Override
+  public long getGrades() {
+    return grades.sum();
+  }
+
+  @Override
+  public Map<String, Long> getTechniqueHits() {
+    Map<String, Long> hits = new LinkedHashMap<>();
+    for (SudokuTechnique technique : SudokuTechnique.values()) {
+      hits.put(technique.getLabel(), techniqueHits[technique.ordinal()].sum());
+    }
+    return hits;
+  }
+
+  /**
+   * JFR-Event für einen Aufruf von SudokuGenerator.generate().
+   */
+  @Name("sudoku.Generate")
+  @Label("Sudoku erzeugen")
+  @Category("Sudoku")
+  @Description("Ein Aufruf von SudokuGenerator.generate() bis zum Sudoku mit passendem Schwierigkeitsgrad")
+  static class GenerateEvent extends Event {
+
+    @Label("Größe")
+    int size;
+
+    @Label("Schwierigkeitsgrad")
+    int difficulty;
+
+    @Label("Versuche")
+    int attempts;
+  }
+
+  /**
+   * JFR-Event für ein von generateSudoku() erzeugtes Sudoku.
+   */
+  @Name("sudoku.GenerationAttempt")
+  @Label("Sudoku-Versuch")
+  @Category("Sudoku")
+  @Description("Füllen, Entfernen und Bewerten eines einzelnen Sudokus")
+  static class AttemptEvent extends Event {
+
+    @Label("Größe")
+    int size;
+
+    @Label("Schwierigkeitsgrad")
+    int difficulty;
+
+    @Label("Entfernte Zahlen")
+    int removed;
+
+    @Label("Eindeutigkeitsprüfungen")
+    int uniquenessChecks;
+
+    @Label("Mehrdeutig zurückgenommen")
+    int uniquenessRollbacks;
+
+    @Label("Zu schwer zurückgenommen")
+    int gradeRollbacks;
+
+    @Label("Suchknoten")
+    long searchNodes;
+
+    @Label("Rücknahmen in der Suche")
+    long searchBacktracks;
+  }
+}
@@ -0,0 +1,106 @@
+package sudoku;
+
+import java.util.Map;
+
+/**
+ * Messwerte von Solver, Generator und HumanSolver für JMX, z.B. in JConsole unter sudoku:type=Metrics.
+ * <p>
+ * Laufzeiten werden als Verteilung in Zweierpotenzen von Mikrosekunden geliefert, siehe LatencyHistogram. Muss für JMX öffentlich sein.
+ */
+public interface SudokuMetricsMXBean {
+
+  /**
+   * @return True wenn gemessen wird.
+   */
+  boolean isEnabled();
+
+  /**
+   * Schaltet die Messung ein oder aus. Ausgeschaltet bleibt nur eine Abfrage je Aufruf von Solver, Generator und HumanSolver.
+   *
+   * @param enabled True zum Einschalten.
+   */
+  void setEnabled(boolean enabled);
+
+  /**
+   * Setzt alle Zähler und Verteilungen auf 0.
+   */
+  void reset();
+
+  /**
+   * @return Aufrufe von solve(), isSolvable() und fill() der Solver.
+   */
+  long getSearches();
+
+  /**
+   * @return Besuchte Knoten aller Suchen.
+   */
+  long getSearchNodes();
+
+  /**
+   * @return Zurückgenommene Zahlen bzw. Zeilen aller Suchen, die zu keiner Lösung geführt haben.
+   */
+  long getSearchBacktracks();
+
+  double getSearchP50Millis();
+
+  double getSearchP99Millis();
+
+  long[] getSearchHistogram();
+
+  /**
+   * @return Von generateSudoku() erzeugte Sudokus.
+   */
+  long getAttempts();
+
+  /**
+   * @return Geprüfte Felder beim Entfernen, je Feld eine Eindeutigkeitsprüfung.
+   */
+  long getUniquenessChecks();
+
+  /**
+   * @return Entfernungen die zurückgenommen wurden, weil das Sudoku nicht mehr eindeutig war.
+   */
+  long getUniquenessRollbacks();
+
+  /**
+   * @return Entfernungen die zurückgenommen wurden, weil das Sudoku zu schwer wurde.
+   */
+  long getGradeRollbacks();
+
+  double getAttemptP50Millis();
+
+  double getAttemptP99Millis();
+
+  long[] getAttemptHistogram();
+
+  /**
+   * @return Abgeschlossene Aufrufe von SudokuGenerator.generate(), also z.B. Klicks auf Start ohne Sudoku im Vorrat.
+   */
+  long getGenerations();
+
+  /**
+   * @return Erzeugte Sudokus die generate() wegen des falschen Schwierigkeitsgrads verworfen hat.
+   */
+  long getRejectedSudokus();
+
+  /**
+   * @return Die Ausbeute von generate(), also der Anteil der erzeugten Sudokus mit dem gewünschten Schwierigkeitsgrad, 1 solange keines erzeugt wurde.
+   */
+  double getYield();
+
+  double getGenerateP50Millis();
+
+  double getGenerateP99Millis();
+
+  long[] getGenerateHistogram();
+
+  /**
+   * @return Bewertungen durch den HumanSolver.
+   */
+  long getGrades();
+
+  /**
+   * @return Anwendungen je Technik des HumanSolvers, nach Namen der Technik.
+   */
+  Map<String, Long> getTechniqueHits();
+}
@@ -0,0 +1,263 @@
+package sudoku;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hält für jeden Schwierigkeitsgrad einen Vorrat an fertigen Sudokus bereit.
+ * <p>
+ * Fällt ein Vorrat unter lowWatermark, füllt ein Hintergrundthread mit niedriger Priorität ihn wieder bis highWatermark auf. Ist ein Vorrat leer, wird das Sudoku direkt
+ * im aufrufenden Thread erzeugt.
+ * <p>
+ * Mit variantsPerSeed &gt; 0 wird nur jedes (variantsPerSeed + 1)-te Sudoku wirklich erzeugt, die übrigen werden per SudokuTransform aus diesem abgeleitet. Jede
+ * Variante wird neu bewertet und nur mit dem Schwierigkeitsgrad des Vorrats aufgenommen. Damit kostet das Auffüllen auch für HARD meist nur ein paar Kopien
+ * und eine Bewertung.
+ */
+class SudokuPool {
+
+  private static final int DIFFICULTIES = Sudoku.HARD + 1;
+
+  private final String solverEngine;
+  private final int lowWatermark;
+  private final int highWatermark;
+  private final int variantsPerSeed;
+  private final List<BlockingQueue<GeneratedSudoku>> pools = new ArrayList<>(DIFFICULTIES);
+  // Gibt an ob der Vorrat gerade aufgefüllt wird, geschützt durch this.
+  private final boolean[] refilling = new boolean[DIFFICULTIES];
+  // Zuletzt erzeugtes Sudoku je Schwierigkeitsgrad und wie oft daraus schon abgeleitet wurde, nur im Hintergrundthread verwendet.
+  private final GeneratedSudoku[] seeds = new GeneratedSudoku[DIFFICULTIES];
+  private final int[] seedUses = new int[DIFFICULTIES];
+  private Thread worker;
+  private volatile boolean running;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong refills = new AtomicLong();
+  private final AtomicLong derived = new AtomicLong();
+  private final AtomicLong rejectedVariants = new AtomicLong();
+  private final AtomicLong refillNanos = new AtomicLong();
+  private final AtomicLong maxRefillNanos = new AtomicLong();
+
+  /**
+   * @param solverEngine Das Lösungsverfahren.
+   * @param lowWatermark Unterhalb dieser Anzahl wird nachgefüllt.
+   * @param highWatermark Bis zu dieser Anzahl wird nachgefüllt, zugleich die Größe des Vorrats.
+   */
+  SudokuPool(String solverEngine, int lowWatermark, int highWatermark) {
+    this(solverEngine, lowWatermark, highWatermark, 0);
+  }
+
+  /**
+   * @param solverEngine Das Lösungsverfahren.
+   * @param lowWatermark Unterhalb dieser Anzahl wird nachgefüllt.
+   * @param highWatermark Bis zu dieser Anzahl wird nachgefüllt, zugleich die Größe des Vorrats.
+   * @param variantsPerSeed Anzahl der aus jedem erzeugten Sudoku abgeleiteten Sudokus, 0 um jedes Sudoku neu zu erzeugen.
+   */
+  SudokuPool(String solverEngine, int lowWatermark, int highWatermark, int variantsPerSeed) {
+    if (lowWatermark < 0 || highWatermark < 1 || lowWatermark > highWatermark || variantsPerSeed < 0) {
+      throw new IllegalArgumentException("0 <= lowWatermark <= highWatermark, highWatermark >= 1 und variantsPerSeed >= 0 erwartet");
+    }
+    this.solverEngine = solverEngine;
+    this.lowWatermark = lowWatermark;
+    this.highWatermark = highWatermark;
+    this.variantsPerSeed = variantsPerSeed;
+    for (int difficulty = 0; difficulty < DIFFICULTIES; difficulty++) {
+      this.pools.add(new ArrayBlockingQueue<>(highWatermark));
+      this.refilling[difficulty] = true;
+    }
+  }
+
+  /**
+   * Startet den Hintergrundthread der die Vorräte auffüllt.
+   */
+  synchronized void start() {
+    if (this.worker != null) {
+      return;
+    }
+    this.running = true;
+    this.worker = new Thread(this::refill, "sudoku-pool");
+    this.worker.setDaemon(true);
+    this.worker.setPriority(Thread.MIN_PRIORITY);
+    this.worker.start();
+  }
+
+  /**
+   * Beendet den Hintergrundthread.
+   */
+  synchronized void shutdown() {
+    this.running = false;
+    if (this.worker != null) {
+      this.worker.interrupt();
+      this.worker = null;
+    }
+  }
+
+  /**
+   * Entnimmt ein Sudoku aus dem Vorrat oder erzeugt es direkt wenn der Vorrat leer ist.
+   *
+   * @param difficulty Der gewünschte Schwierigkeitsgrad.
+   * @return Das Sudoku.
+   */
+  GeneratedSudoku take(int difficulty) {
+    GeneratedSudoku sudoku = this.poll(difficulty);
+    if (sudoku == null) {
+      sudoku = SudokuGenerator.generate(difficulty, this.solverEngine);
+    }
+    return sudoku;
+  }
+
+  /**
+   * Entnimmt ein Sudoku aus dem Vorrat ohne zu warten.
+   *
+   * @param difficulty Der gewünschte Schwierigkeitsgrad.
+   * @return Das Sudoku oder null wenn der Vorrat leer ist.
+   */
+  GeneratedSudoku poll(int difficulty) {
+    GeneratedSudoku sudoku = this.pools.get(difficulty).poll();
+    if (sudoku != null) {
+      this.hits.incrementAndGet();
+    } else {
+      this.misses.incrementAndGet();
+    }
+    synchronized (this) {
+      if (!this.refilling[difficulty] && this.pools.get(difficulty).size() < this.lowWatermark) {
+        this.refilling[difficulty] = true;
+        this.notifyAll();
+      }
+    }
+    return sudoku;
+  }
+
+  /**
+   * Schleife des Hintergrundthreads.
+   */
+  private void refill() {
+    int difficulty = 0;
+    while (this.running) {
+      try {
+        difficulty = this.nextRefill(difficulty);
+      } catch (InterruptedException e) {
+        return;
+      }
+      GeneratedSudoku sudoku;
+      if (this.seeds[difficulty] != null && this.seedUses[difficulty] < this.variantsPerSeed) {
+        sudoku = SudokuTransform.random(ThreadLocalRandom.current()).apply(this.seeds[difficulty]);
+        this.seedUses[difficulty]++;
+        if (sudoku.getDifficulty() != difficulty) {
+          // Eine falsch eingestufte Variante würde als anderer Schwierigkeitsgrad ausgegeben, das nächste Sudoku wird dann neu erzeugt.
+          this.seedUses[difficulty] = this.variantsPerSeed;
+          this.rejectedVariants.incrementAndGet();
+          continue;
+        }
+        this.derived.incrementAndGet();
+      } else {
+        long start = System.nanoTime();
+        try {
+          sudoku = SudokuGenerator.generate(difficulty, this.solverEngine);
+        } catch (CancellationException e) {
+          return;
+        }
+        long duration = System.nanoTime() - start;
+        this.refills.incrementAndGet();
+        this.refillNanos.addAndGet(duration);
+        this.maxRefillNanos.accumulateAndGet(duration, Math::max);
+        if (this.variantsPerSeed > 0) {
+          // Das ausgegebene Sudoku bekommt die Eingaben des Spielers, die Varianten entstehen deshalb aus einer eigenen Kopie.
+          this.seeds[difficulty] = sudoku.copy();
+          this.seedUses[difficulty] = 0;
+        }
+      }
+
+      this.pools.get(difficulty).offer(sudoku);
+      synchronized (this) {
+        if (this.pools.get(difficulty).size() >= this.highWatermark) {
+          this.refilling[difficulty] = false;
+        }
+      }
+      // Reihum, damit kein Schwierigkeitsgrad die anderen aushungert.
+      difficulty = (difficulty + 1) % DIFFICULTIES;
+    }
+  }
+
+  /**
+   * Wartet bis ein Vorrat aufgefüllt werden muss.
+   *
+   * @param from Ab diesem Schwierigkeitsgrad wird gesucht.
+   * @return Der aufzufüllende Schwierigkeitsgrad.
+   * @throws InterruptedException Wenn der Pool beendet wird.
+   */
+  private synchronized int nextRefill(int from) throws InterruptedException {
+    while (true) {
+      for (int i = 0; i < DIFFICULTIES; i++) {
+        int difficulty = (from + i) % DIFFICULTIES;
+        if (this.refilling[difficulty]) {
+          return difficulty;
+        }
+      }
+      this.wait();
+    }
+  }
+
+  /**
+   * @return Anzahl der Sudokus die direkt aus dem Vorrat kamen.
+   */
+  long getHits() {
+    return this.hits.get();
+  }
+
+  /**
+   * @return Anzahl der Sudokus die wegen eines leeren Vorrats direkt erzeugt werden mussten.
+   */
+  long getMisses() {
+    return this.misses.get();
+  }
+
+  /**
+   * @return Anzahl der im Hintergrund erzeugten Sudokus.
+   */
+  long getRefills() {
+    return this.refills.get();
+  }
+
+  /**
+   * @return Anzahl der im Hintergrund aus einem erzeugten Sudoku abgeleiteten Sudokus.
+   */
+  long getDerived() {
+    return this.derived.get();
+  }
+
+  /**
+   * @return Anzahl der abgeleiteten Sudokus, die nach der Bewertung einen anderen Schwierigkeitsgrad hatten und verworfen wurden.
+   */
+  long getRejectedVariants() {
+    return this.rejectedVariants.get();
+  }
+
+  /**
+   * @return Durchschnittliche Dauer einer Erzeugung im Hintergrund in Nanosekunden.
+   */
+  long getAverageRefillNanos() {
+    long refills = this.refills.get();
+    return refills == 0 ? 0 : this.refillNanos.get() / refills;
+  }
+
+  /**
+   * @return Längste Dauer einer Erzeugung im Hintergrund in Nanosekunden.
+   */
+  long getMaxRefillNanos() {
+    return this.maxRefillNanos.get();
+  }
+
+  /**
+   * @param difficulty Der Schwierigkeitsgrad.
+   * @return Anzahl der vorrätigen Sudokus.
+   */
+  int size(int difficulty) {
+    return this.pools.get(difficulty).size();
+  }
+}
@@ -0,0 +1,451 @@
+package sudoku;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bietet Erzeugen, Lösen, Zählen, Bewerten und Prüfen als HTTP-Dienst auf localhost an. Die Antworten sind JSON.
+ * <p>
+ * Jede Anfrage läuft in einem eigenen virtuellen Thread, vor Java 21 in einem Thread aus einem Cache. Die Rechenarbeit selbst ist durch eine Semaphore auf so viele
+ * Anfragen wie Threads begrenzt, die übrigen warten bis zur Frist und bekommen dann 503. Die Solver werden zwischen den Anfragen in einer Warteschlange
+ * weitergereicht statt neu angelegt, jeder gehört dabei immer nur einer Anfrage. Lösen und Zählen laufen mit Propagation und brechen an der Frist ab, die
+ * Erzeugung beginnt danach keinen neuen Versuch mehr, damit kein einzelnes Sudoku einen Thread unbegrenzt belegt.
+ */
+class SudokuServer {
+
+  static final String PATH_GENERATE = "/generate";
+  static final String PATH_SOLVE = "/solve";
+  static final String PATH_COUNT = "/count";
+  static final String PATH_GRADE = "/grade";
+  static final String PATH_VALIDATE = "/validate";
+  // Die Namen der Schwierigkeitsgrade in Anfragen und Antworten, Index wie Sudoku.EASY bis HARD.
+  static final String[] DIFFICULTIES = {"easy", "normal", "hard"};
+
+  private static final int OK = 200;
+  private static final int BAD_REQUEST = 400;
+  private static final int METHOD_NOT_ALLOWED = 405;
+  private static final int INTERNAL_ERROR = 500;
+  private static final int UNAVAILABLE = 503;
+
+  private final String solverEngine;
+  private final long timeoutNanos;
+  private final Semaphore permits;
+  private final SudokuPool pool;
+  // Freie Solver, jede Anfrage nimmt sich einen und gibt ihn danach zurück.
+  private final ConcurrentLinkedQueue<SudokuSolver> solvers = new ConcurrentLinkedQueue<>();
+  // Zählt für /count parallel im gemeinsamen ForkJoinPool.
+  private final SolutionCounter counter = new SolutionCounter();
+  private HttpServer server;
+  private ExecutorService executor;
+
+  /**
+   * @param solverEngine Das Lösungsverfahren für die Erzeugung von 9 * 9 Sudokus.
+   * @param threads Die Anzahl der Anfragen die gleichzeitig rechnen.
+   * @param timeoutMillis Die Frist je Anfrage für das Warten auf einen freien Platz, für Lösen und Zählen und für neue Versuche der Erzeugung.
+   * @param pool Der Vorrat für Anfragen ohne Seed, darf null sein.
+   */
+  SudokuServer(String solverEngine, int threads, long timeoutMillis, SudokuPool pool) {
+    this.solverEngine = solverEngine;
+    this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    this.permits = new Semaphore(threads, true);
+    this.pool = pool;
+  }
+
+  /**
+   * Startet den Dienst.
+   *
+   * @param port Der Port auf localhost, 0 für einen freien.
+   * @return Der tatsächliche Port.
+   * @throws IOException Wenn der Port nicht frei ist.
+   */
+  synchronized int start(int port) throws IOException {
+    this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    this.executor = newRequestExecutor();
+    this.server.setExecutor(this.executor);
+    this.server.createContext(PATH_GENERATE, this.handler(this::generate));
+    this.server.createContext(PATH_SOLVE, this.handler(this::solve));
+    this.server.createContext(PATH_COUNT, this.handler(this::count));
+    this.server.createContext(PATH_GRADE, this.handler(this::grade));
+    this.server.createContext(PATH_VALIDATE, this.handler(this::validate));
+    this.server.start();
+    return this.server.getAddress().getPort();
+  }
+
+  /**
+   * Beendet den Dienst, laufende Anfragen bekommen noch eine Sekunde.
+   */
+  synchronized void stop() {
+    if (this.server != null) {
+      this.server.stop(1);
+      this.executor.shutdownNow();
+      this.server = null;
+    }
+  }
+
+  /**
+   * Ein Executor mit einem virtuellen Thread je Aufgabe. Die Methode gibt es erst ab Java 21, sie wird deshalb per Reflection gesucht, sonst wird ein
+   * Thread-Cache verwendet.
+   *
+   * @return Der Executor.
+   */
+  static ExecutorService newRequestExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException ex) {
+      return Executors.newCachedThreadPool();
+    }
+  }
+
+  /**
+   * Eine Anfrage mit ihren Parametern.
+   */
+  interface Endpoint {
+    String handle(Map<String, String> parameters, long deadline) throws DeadlineException;
+  }
+
+  /**
+   * Die Frist einer Anfrage ist abgelaufen, bevor sie fertig war.
+   */
+  static class DeadlineException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    DeadlineException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * Liest die Parameter, hält den Platz an der Semaphore und schreibt die Antwort samt Fehlercode. Jede Anfrage bekommt eine Antwort, unerwartete Fehler als 500.
+   */
+  HttpHandler handler(Endpoint endpoint) {
+    return exchange -> {
+      long deadline = System.nanoTime() + this.timeoutNanos;
+      try {
+        String method = exchange.getRequestMethod();
+        if (!method.equals("GET") && !method.equals("POST")) {
+          respond(exchange, METHOD_NOT_ALLOWED, error("Nur GET und POST"));
+          return;
+        }
+        Map<String, String> parameters = parameters(exchange);
+        if (!this.permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+          respond(exchange, UNAVAILABLE, error("Überlastet"));
+          return;
+        }
+        String body;
+        try {
+          body = endpoint.handle(parameters, deadline);
+        } finally {
+          this.permits.release();
+        }
+        respond(exchange, OK, body);
+      } catch (IllegalArgumentException ex) {
+        respond(exchange, BAD_REQUEST, error(ex.getMessage()));
+      } catch (DeadlineException ex) {
+        respond(exchange, UNAVAILABLE, error(ex.getMessage()));
+      } catch (InterruptedException ex) {
+        respond(exchange, UNAVAILABLE, error("Abgebrochen"));
+      } catch (RuntimeException ex) {
+        // Sonst würde die Verbindung ohne Antwort geschlossen.
+        respond(exchange, INTERNAL_ERROR, error(Objects.toString(ex.getMessage(), ex.getClass().getName())));
+      } finally {
+        exchange.close();
+      }
+    };
+  }
+
+  /**
+   * /generate?difficulty=easy|normal|hard&seed=n&size=n&minRating=n&maxRating=n, alle Parameter optional. Ohne Seed und Bewertungsbereich kommt das Sudoku bei
+   * Standardgröße aus dem Vorrat.
+   */
+  private String generate(Map<String, String> parameters, long deadline) throws DeadlineException {
+    int difficulty = difficulty(parameters.getOrDefault("difficulty", DIFFICULTIES[Sudoku.NORMAL]));
+    int size = parseInt(parameters.getOrDefault("size", String.valueOf(Sudoku.DEFAULT_SIZE)), "size");
+    if (!isSize(size)) {
+      throw new IllegalArgumentException("Ungültige Größe: " + size);
+    }
+    int minRating = parseInt(parameters.getOrDefault("minRating", "0"), "minRating");
+    int maxRating = parseInt(parameters.getOrDefault("maxRating", String.valueOf(Integer.MAX_VALUE)), "maxRating");
+    if (minRating > maxRating) {
+      throw new IllegalArgumentException("minRating größer als maxRating");
+    }
+    boolean band = parameters.containsKey("minRating") || parameters.containsKey("maxRating");
+    String seed = parameters.get("seed");
+    GeneratedSudoku sudoku = null;
+    if (seed == null && !band && size == Sudoku.DEFAULT_SIZE && this.pool != null) {
+      sudoku = this.pool.poll(difficulty);
+    }
+    if (sudoku == null) {
+      long value;
+      try {
+        value = seed != null ? Long.parseLong(seed) : ThreadLocalRandom.current().nextLong();
+      } catch (NumberFormatException ex) {
+        throw new IllegalArgumentException("Ungültiger Seed: " + seed);
+      }
+      // Backtracking kommt ab 16 * 16 Feldern nicht mehr in vertretbarer Zeit zum Ende.
+      String engine = size > Sudoku.DEFAULT_SIZE ? Sudoku.SOLVER_DLX : this.solverEngine;
+      try {
+        sudoku = SudokuGenerator.generate(difficulty, engine, size, value, minRating, maxRating, deadline, null);
+      } catch (CancellationException ex) {
+        throw new DeadlineException(ex.getMessage());
+      }
+    }
+    StringBuilder json = new StringBuilder("{\"difficulty\":\"").append(DIFFICULTIES[sudoku.getDifficulty()]).append('"')
+        .append(",\"rating\":").append(sudoku.getRating());
+    if (sudoku.getSeed().isPresent()) {
+      json.append(",\"seed\":").append(sudoku.getSeed().getAsLong()).append(",\"seedVersion\":").append(SudokuGenerator.SEED_VERSION);
+    }
+    json.append(",\"size\":").append(size).append(",\"puzzle\":");
+    appendMatrix(json, sudoku.getSudokuMatrix());
+    json.append(",\"solution\":");
+    appendMatrix(json, sudoku.getSudokuMatrixSolution());
+    return json.append('}').toString();
+  }
+
+  /**
+   * /solve?puzzle=..., Anzahl der Lösungen (0, 1 oder 2 für mehr als eine) und eine Lösung, falls es eine gibt.
+   */
+  private String solve(Map<String, String> parameters, long deadline) throws DeadlineException {
+    int[][] matrix = puzzle(parameters);
+    int solutions = this.solveSolutions(matrix, deadline);
+    StringBuilder json = new StringBuilder("{\"solutions\":").append(solutions);
+    if (solutions > 0) {
+      json.append(",\"solution\":");
+      appendMatrix(json, matrix);
+    }
+    return json.append('}').toString();
+  }
+
+  /**
+   * /count?puzzle=...&limit=n, Anzahl der Lösungen bis limit (Standard 2), limit=0 zählt alle bis zur Frist. Ist die Anzahl gleich limit, gibt es mindestens
+   * so viele.
+   */
+  private String count(Map<String, String> parameters, long deadline) throws DeadlineException {
+    int[][] matrix = puzzle(parameters);
+    long limit = parseLong(parameters.getOrDefault("limit", "2"), "limit");
+    if (limit < 0) {
+      throw new IllegalArgumentException("Ungültiger Wert für limit: " + limit);
+    }
+    try {
+      return "{\"solutions\":" + this.counter.count(matrix, limit, deadline) + "}";
+    } catch (CancellationException ex) {
+      throw new DeadlineException(ex.getMessage());
+    }
+  }
+
+  /**
+   * /grade?puzzle=..., Schwierigkeitsgrad und Bewertung des HumanSolvers.
+   */
+  private String grade(Map<String, String> parameters, long deadline) {
+    int[][] matrix = puzzle(parameters);
+    if (SudokuBatchSolver.hasConflict(matrix)) {
+      throw new IllegalArgumentException("Widersprüchliche Vorgaben");
+    }
+    // Der HumanSolver gehört zu genau einem Sudoku und wird deshalb je Anfrage angelegt.
+    HumanSolver humanSolver = new HumanSolver(matrix);
+    return "{\"difficulty\":\"" + DIFFICULTIES[humanSolver.getDifficulty()] + "\",\"rating\":" + humanSolver.getRating() + ",\"solvedByTechniques\":"
+        + humanSolver.isSolvedByTechniques() + "}";
+  }
+
+  /**
+   * /validate?puzzle=..., ob keine Zahl doppelt in einer Einheit steht, ob das Sudoku gelöst ist und die Felder im Konflikt als [Reihe, Spalte].
+   */
+  private String validate(Map<String, String> parameters, long deadline) {
+    int[][] matrix = puzzle(parameters);
+    CandidateBoard board = new CandidateBoard(matrix.length);
+    board.sync(matrix);
+    SudokuGeometry geometry = board.getGeometry();
+    StringBuilder conflicts = new StringBuilder("[");
+    for (int cell = 0; cell < geometry.cells; cell++) {
+      if (board.isConflict(cell)) {
+        if (conflicts.length() > 1) {
+          conflicts.append(',');
+        }
+        conflicts.append('[').append(geometry.rowOf[cell]).append(',').append(geometry.columnOf[cell]).append(']');
+      }
+    }
+    conflicts.append(']');
+    return "{\"valid\":" + (conflicts.length() == 2) + ",\"solved\":" + board.isSolved() + ",\"conflicts\":" + conflicts + "}";
+  }
+
+  /**
+   * Zählt die Lösungen bis 2 mit einem Solver aus der Warteschlange und trägt die erste ein.
+   *
+   * @param matrix Das Sudoku, enthält danach eine Lösung wenn es eine gibt.
+   * @param deadline Die Frist nach System.nanoTime().
+   * @return Die Anzahl der Lösungen: 0, 1 oder 2 für mehr als eine.
+   * @throws DeadlineException Wenn die Suche die Frist überschreitet.
+   */
+  private int solveSolutions(int[][] matrix, long deadline) throws DeadlineException {
+    if (SudokuBatchSolver.hasConflict(matrix)) {
+      return 0;
+    }
+    SudokuSolver solver = this.solvers.poll();
+    if (solver == null) {
+      solver = new SudokuSolver(matrix, true);
+    }
+    try {
+      solver.setSudokuMatrix(matrix);
+      if (solver.search(2, 0, deadline, true) == SudokuSolver.SearchState.INCOMPLETE) {
+        solver.cancel();
+        throw new DeadlineException("Zeitlimit überschritten");
+      }
+      // Die Suche hat sich die erste Lösung gemerkt, ohne Lösung bleibt die Matrix unverändert.
+      solver.writeFirstSolution();
+      return solver.getSolutionCount();
+    } finally {
+      this.solvers.offer(solver);
+    }
+  }
+
+  /**
+   * Liest das Sudoku aus dem Parameter puzzle. Erlaubt sind 81 Zeichen mit '0' oder '.' für leere Felder oder durch Kommas getrennte Zahlen in jeder Größe aus
+   * Sudoku.SIZES.
+   *
+   * @param parameters Die Parameter der Anfrage.
+   * @return Die Sudokumatrix.
+   * @throws IllegalArgumentException Wenn das Sudoku fehlt oder ungültig ist.
+   */
+  static int[][] puzzle(Map<String, String> parameters) {
+    String text = parameters.get("puzzle");
+    if (text == null) {
+      throw new IllegalArgumentException("Parameter puzzle fehlt");
+    }
+    text = text.replaceAll("\\s", "");
+    String[] values;
+    if (text.indexOf(',') >= 0) {
+      values = text.split(",", -1);
+    } else {
+      values = text.split("");
+    }
+    int size = (int) Math.round(Math.sqrt(values.length));
+    if (size * size != values.length || !isSize(size)) {
+      throw new IllegalArgumentException("Ungültige Anzahl an Feldern: " + values.length);
+    }
+    int[][] matrix = new int[size][size];
+    for (int i = 0; i < values.length; i++) {
+      int number = values[i].equals(".") ? 0 : parseInt(values[i], "puzzle");
+      if (number < 0 || number > size) {
+        throw new IllegalArgumentException("Ungültige Zahl: " + values[i]);
+      }
+      matrix[i / size][i % size] = number;
+    }
+    return matrix;
+  }
+
+  /**
+   * Die Parameter aus Query und, bei POST, aus dem Body. Ein Body ohne '=' gilt als Wert von puzzle.
+   */
+  private static Map<String, String> parameters(HttpExchange exchange) throws IOException {
+    Map<String, String> parameters = new HashMap<>();
+    parseQuery(exchange.getRequestURI().getRawQuery(), parameters);
+    if (exchange.getRequestMethod().equals("POST")) {
+      String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).trim();
+      if (body.indexOf('=') >= 0) {
+        parseQuery(body, parameters);
+      } else if (!body.isEmpty()) {
+        parameters.put("puzzle", body);
+      }
+    }
+    return parameters;
+  }
+
+  private static void parseQuery(String query, Map<String, String> parameters) {
+    if (query == null || query.isEmpty()) {
+      return;
+    }
+    for (String pair : query.split("&")) {
+      int separator = pair.indexOf('=');
+      String key = separator >= 0 ? pair.substring(0, separator) : pair;
+      String value = separator >= 0 ? pair.substring(separator + 1) : "";
+      parameters.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+    }
+  }
+
+  /**
+   * @param value Der Name aus DIFFICULTIES oder die Zahl 0 bis 2.
+   * @return Der Schwierigkeitsgrad wie Sudoku.EASY bis HARD.
+   */
+  private static int difficulty(String value) {
+    for (int i = 0; i < DIFFICULTIES.length; i++) {
+      if (DIFFICULTIES[i].equalsIgnoreCase(value) || String.valueOf(i).equals(value)) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("Ungültiger Schwierigkeitsgrad: " + value);
+  }
+
+  private static boolean isSize(int size) {
+    for (int candidate : Sudoku.SIZES) {
+      if (candidate == size) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int parseInt(String value, String name) {
+    try {
+      return Integer.parseInt(value);
+    } catch (NumberFormatException ex) {
+      throw new IllegalArgumentException("Ungültiger Wert für " + name + ": " + value);
+    }
+  }
+
+  private static long parseLong(String value, String name) {
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException ex) {
+      throw new IllegalArgumentException("Ungültiger Wert für " + name + ": " + value);
+    }
+  }
+
+  private static void appendMatrix(StringBuilder json, int[][] matrix) {
+    json.append('[');
+    for (int row = 0; row < matrix.length; row++) {
+      json.append(row == 0 ? "[" : ",[");
+      for (int column = 0; column < matrix[row].length; column++) {
+        if (column > 0) {
+          json.append(',');
+        }
+        json.append(matrix[row][column]);
+      }
+      json.append(']');
+    }
+    json.append(']');
+  }
+
+  /**
+   * @param message Die Fehlermeldung, bei null ein allgemeiner Text, da z.B. Ausnahmen aus dem JDK nicht immer eine Meldung haben.
+   * @return Der Fehler als JSON.
+   */
+  private static String error(String message) {
+    return "{\"error\":\"" + Objects.toString(message, "Fehler").replace("\\", "\\\\").replace("\"", "\\\"") + "\"}";
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+}
@@ -0,0 +1,745 @@
+package sudoku;
+
+/**
+ * Backtracking über Bitmasken, wahlweise mit Propagation. Die Suche läuft iterativ auf einem vorab angelegten Stapel und kann daher nach einer Anzahl an Knoten oder
+ * zu einem Zeitpunkt angehalten und später mit resume() fortgesetzt werden.
+ */
+public class SudokuSolver implements Solver {
+
+  // Die Uhr wird nur alle 256 Knoten abgefragt.
+  private static final int CLOCK_INTERVAL = 256;
+  // Rückgabe von mostConstrainedCell() bzw. des Knotens bei einem Widerspruch.
+  private static final int CONTRADICTION = -2;
+
+  /**
+   * Stand einer Suche nach search() oder resume().
+   */
+  enum SearchState {
+    // Die Suche ist fertig, getSolutionCount() ist das Ergebnis.
+    COMPLETE,
+    // Das Budget ist aufgebraucht, die Suche kann mit resume() fortgesetzt oder mit cancel() verworfen werden.
+    INCOMPLETE
+  }
+
+  // Aufbau des Sudokus, passt sich in initMasks() an die Größe der Matrix an.
+  private SudokuGeometry geometry;
+  // Blocknummer für jedes Feld (Reihe * size + Spalte), damit nicht bei jeder Prüfung neu gerechnet werden muss.
+  private int[] blockIndex;
+  private int[] rowOf;
+  private int[] columnOf;
+  private int size;
+
+  private int[][] sudokuMatrix;
+  // Mit Propagation wird immer im Feld mit den wenigsten Kandidaten verzweigt und nach jedem Setzen werden Naked und Hidden Singles eingetragen.
+  private final boolean propagation;
+  // Im Propagationsmodus gesetzte Felder in der Reihenfolge des Setzens, zum Zurücknehmen.
+  private int[] trail;
+  private int trailSize;
+  // Bei fill() bleibt die erste Lösung stehen statt zurückgenommen zu werden.
+  private boolean keepSolution;
+  // Bei solveAndFill() wird die erste Lösung kopiert und die Suche zählt weiter, Index Reihe * size + Spalte.
+  private boolean recordSolution;
+  private int[] firstSolution;
+  // Der Suchstapel, eine Ebene je Verzweigung: die noch nicht probierten Zahlen. Ohne Propagation außerdem die gerade probierte Zahl, mit Propagation das Feld,
+  // die Länge des Trails beim Betreten der Ebene und vor der gerade probierten Zahl (-1 vor der ersten) sowie die Lösungen vor dieser Zahl.
+  private int[] stackFree;
+  private int[] stackSolutions;
+  private int[] stackNumber;
+  private int[] stackCell;
+  private int[] stackMark;
+  private int[] stackBranchMark;
+  private int depth;
+  // Ohne Propagation: die obersten Ebenen deren aktuelle Zahl schon zu einer Lösung geführt hat und daher keine Rücknahme zählt.
+  private int credited;
+  // True wenn als nächstes ein neuer Knoten betreten wird, false wenn es auf der obersten Ebene weitergeht.
+  private boolean descending;
+  // True solange eine mit search() begonnene Suche unterbrochen ist und fortgesetzt werden kann.
+  private boolean paused;
+  private int solutions;
+  // Belegte Zahlen je Reihe, Spalte und Block als Bitmaske (Bit n steht für die Zahl n).
+  private int[] rowMask;
+  private int[] columnMask;
+  private int[] blockMask;
+  // Leere Felder (Reihe * size + Spalte) in der Reihenfolge in der solve() sie besucht.
+  private int[] emptyCells;
+  private int emptyCount;
+  // Anzahl an Lösungen nach der solve() abbricht.
+  private int solutionLimit;
+  // Suchschritte und Laufzeit je Lauf von solve(), 0 für unbegrenzt.
+  private long searchLimit;
+  private long searchTimeout;
+  // Besuchte Knoten und Rücknahmen über alle Aufrufe, für SudokuMetrics und JFR.
+  private long nodes;
+  private long backtracks;
+
+  SudokuSolver(int[][] sudokuMatrix) {
+
+    this(sudokuMatrix, false);
+  }
+
+  /**
+   * @param sudokuMatrix Die Sudokumatrix.
+   * @param propagation True für die Suche mit Propagation (Sudoku.SOLVER_PROPAGATION), false für die feste Reihenfolge.
+   */
+  SudokuSolver(int[][] sudokuMatrix, boolean propagation) {
+    this.sudokuMatrix = sudokuMatrix;
+    this.propagation = propagation;
+  }
+
+  /**
+   * Gibt das Sudokufeld als Matrix zurück.
+   *
+   * @return Die Sudokumatrix.
+   */
+  @Override
+  public int[][] getSudokuMatrix() {
+
+    return this.sudokuMatrix;
+  }
+
+  /**
+   * Setzt die gewünschte Sudokumatrix.
+   *
+   * @param sudokuMatrix Sudokumatrix.
+   */
+  @Override
+  public void setSudokuMatrix(int[][] sudokuMatrix) {
+    this.sudokuMatrix = sudokuMatrix;
+  }
+
+  /**
+   * Prüfte ob das Sudoku nur einen Lösungsweg hat.
+   *
+   * @return true|false
+   */
+  @Override
+  public boolean isUnique() {
+
+    return this.solve() == 1;
+  }
+
+  /**
+   * Hilfsfunktion
+   *
+   * @return Die Anzahl der gefundenen Lösungen.
+   */
+  @Override
+  public int solve() {
+    return this.count(2);
+  }
+
+  /**
+   * Prüft ob das Sudoku überhaupt lösbar ist und bricht nach der ersten Lösung ab.
+   *
+   * @return True wenn es mindestens eine Lösung gibt.
+   */
+  @Override
+  public boolean isSolvable() {
+    return this.count(1) == 1;
+  }
+
+  @Override
+  public int solveAndFill() {
+    long deadline = this.searchTimeout > 0 ? System.nanoTime() + this.searchTimeout : 0;
+    if (this.search(2, this.searchLimit, deadline, true) == SearchState.INCOMPLETE) {
+      this.cancel();
+      return UNDECIDED;
+    }
+    this.writeFirstSolution();
+    return this.solutions;
+  }
+
+  @Override
+  public void setSearchLimit(long steps) {
+    this.searchLimit = steps;
+  }
+
+  @Override
+  public void setSearchTimeout(long nanos) {
+    this.searchTimeout = nanos;
+  }
+
+  @Override
+  public long getSearchNodes() {
+    return this.nodes;
+  }
+
+  @Override
+  public long getSearchBacktracks() {
+    return this.backtracks;
+  }
+
+  /**
+   * Zählt die Lösungen bis zur Grenze. Reichen Suchschritte oder Laufzeit nicht, wird die Suche verworfen und gilt als mehrdeutig, siehe Solver.setSearchLimit().
+   *
+   * @param limit Anzahl an Lösungen nach der abgebrochen wird.
+   * @return Die Anzahl der gefundenen Lösungen.
+   */
+  private int count(int limit) {
+    long deadline = this.searchTimeout > 0 ? System.nanoTime() + this.searchTimeout : 0;
+    if (this.search(limit, this.searchLimit, deadline) == SearchState.INCOMPLETE) {
+      this.cancel();
+      return limit;
+    }
+    return this.solutions;
+  }
+
+  /**
+   * Beginnt eine neue Suche nach bis zu limit Lösungen, eine unterbrochene Suche wird vorher verworfen. Solange die Suche unterbrochen ist, enthält die Sudokumatrix
+   * die Zahlen des aktuellen Suchpfads.
+   *
+   * @param limit Anzahl an Lösungen nach der abgebrochen wird.
+   * @param nodeBudget Die Anzahl an Knoten bis zur Unterbrechung, 0 für unbegrenzt.
+   * @param deadline Der Zeitpunkt nach System.nanoTime() zu dem unterbrochen wird, 0 für unbegrenzt.
+   * @return COMPLETE wenn die Suche fertig ist, INCOMPLETE wenn das Budget vorher aufgebraucht war.
+   */
+  SearchState search(int limit, long nodeBudget, long deadline) {
+    return this.search(limit, nodeBudget, deadline, false);
+  }
+
+  /**
+   * Wie search(int, long, long), merkt sich aber auf Wunsch die erste Lösung für writeFirstSolution().
+   *
+   * @param limit Anzahl an Lösungen nach der abgebrochen wird.
+   * @param nodeBudget Die Anzahl an Knoten bis zur Unterbrechung, 0 für unbegrenzt.
+   * @param deadline Der Zeitpunkt nach System.nanoTime() zu dem unterbrochen wird, 0 für unbegrenzt.
+   * @param recordSolution True um die erste Lösung zu kopieren.
+   * @return COMPLETE wenn die Suche fertig ist, INCOMPLETE wenn das Budget vorher aufgebraucht war.
+   */
+  SearchState search(int limit, long nodeBudget, long deadline, boolean recordSolution) {
+    this.cancel();
+    this.initMasks(false);
+    this.solutionLimit = limit;
+    this.keepSolution = false;
+    this.recordSolution = recordSolution;
+    return this.proceed(nodeBudget, deadline);
+  }
+
+  /**
+   * Trägt die erste Lösung einer mit recordSolution begonnenen Suche in die Sudokumatrix ein. Nur nach COMPLETE oder cancel() aufrufen, solange die Suche
+   * unterbrochen ist enthält die Matrix noch den Suchpfad.
+   *
+   * @return False wenn die Suche keine Lösung gefunden oder sich keine gemerkt hat.
+   */
+  boolean writeFirstSolution() {
+    if (!this.recordSolution || this.solutions == 0) {
+      return false;
+    }
+    for (int cell = 0; cell < this.geometry.cells; cell++) {
+      this.sudokuMatrix[this.rowOf[cell]][this.columnOf[cell]] = this.firstSolution[cell];
+    }
+    return true;
+  }
+
+  /**
+   * Kopiert die gerade gefundene Lösung nach firstSolution.
+   */
+  private void copySolution() {
+    for (int cell = 0; cell < this.geometry.cells; cell++) {
+      this.firstSolution[cell] = this.sudokuMatrix[this.rowOf[cell]][this.columnOf[cell]];
+    }
+  }
+
+  /**
+   * Setzt eine unterbrochene Suche mit neuem Budget fort.
+   *
+   * @param nodeBudget Die Anzahl an weiteren Knoten bis zur Unterbrechung, 0 für unbegrenzt.
+   * @param deadline Der Zeitpunkt nach System.nanoTime() zu dem unterbrochen wird, 0 für unbegrenzt.
+   * @return COMPLETE wenn die Suche fertig ist, INCOMPLETE wenn das Budget wieder aufgebraucht war.
+   */
+  SearchState resume(long nodeBudget, long deadline) {
+    if (!this.paused) {
+      return SearchState.COMPLETE;
+    }
+    return this.proceed(nodeBudget, deadline);
+  }
+
+  /**
+   * Lässt die Suche laufen und meldet den Abschnitt an SudokuMetrics, falls eingeschaltet.
+   */
+  private SearchState proceed(long nodeBudget, long deadline) {
+    boolean measured = SudokuMetrics.enabled;
+    long start = measured ? System.nanoTime() : 0;
+    long nodes = this.nodes;
+    long backtracks = this.backtracks;
+    this.paused = !this.run(nodeBudget, deadline);
+    if (measured) {
+      SudokuMetrics.recordSearch(this.nodes - nodes, this.backtracks - backtracks, System.nanoTime() - start);
+    }
+    return this.paused ? SearchState.INCOMPLETE : SearchState.COMPLETE;
+  }
+
+  /**
+   * Verwirft eine unterbrochene Suche und stellt die Sudokumatrix wieder her. Ohne unterbrochene Suche passiert nichts.
+   */
+  void cancel() {
+    if (!this.paused) {
+      return;
+    }
+    if (this.propagation) {
+      this.undo(0);
+    } else {
+      // Unterbrochen wird nur beim Betreten eines Knotens, jede Ebene darüber hat also gerade eine Zahl gesetzt.
+      for (int level = this.depth - 1; level >= 0; level--) {
+        int cell = this.emptyCells[level];
+        this.remove(this.rowOf[cell], this.columnOf[cell], this.stackNumber[level]);
+      }
+    }
+    this.depth = 0;
+    this.paused = false;
+  }
+
+  /**
+   * @return Die bisher gefundenen Lösungen, nach COMPLETE das Ergebnis der Suche.
+   */
+  int getSolutionCount() {
+    return this.solutions;
+  }
+
+  /**
+   * Mathode zum befüllen des Sudokus
+   *
+   * @return True wenn es Fertig ist. False wenn der Lösungsweg falsch ist.
+   */
+  @Override
+  public boolean fill() {
+    this.cancel();
+    // Ohne Propagation werden die Felder zeilenweise gefüllt wie bisher.
+    this.initMasks(!this.propagation);
+    this.solutionLimit = 1;
+    this.keepSolution = true;
+    this.recordSolution = false;
+    // Eine Lösung muss wirklich gefunden werden, Suchschritte und Laufzeit sind hier nicht begrenzt.
+    this.proceed(0, 0);
+    return this.solutions == 1;
+  }
+
+  /**
+   * Die Suche: betritt Knoten und arbeitet die Ebenen des Stapels ab, bis die Suche fertig oder das Budget aufgebraucht ist.
+   *
+   * @param nodeBudget Die Anzahl an Knoten bis zur Unterbrechung, 0 für unbegrenzt.
+   * @param deadline Der Zeitpunkt nach System.nanoTime() zu dem unterbrochen wird, 0 für unbegrenzt.
+   * @return True wenn die Suche fertig ist, false wenn sie unterbrochen wurde.
+   */
+  private boolean run(long nodeBudget, long deadline) {
+    long stop = nodeBudget > 0 ? this.nodes + nodeBudget : Long.MAX_VALUE;
+    return this.propagation ? this.runPropagated(stop, deadline) : this.runPlain(stop, deadline);
+  }
+
+  /**
+   * Suche ohne Propagation: Ebene i gehört zum leeren Feld emptyCells[i] und probiert dessen Zahlen aufsteigend.
+   * <p>
+   * Der Zustand liegt während der Schleife in lokalen Variablen und wird beim Verlassen zurückgeschrieben, so ist ein Knoten kaum teurer als ein rekursiver Aufruf.
+   *
+   * @param stop Der Stand von nodes, bei dem unterbrochen wird.
+   * @param deadline Der Zeitpunkt nach System.nanoTime() zu dem unterbrochen wird, 0 für unbegrenzt.
+   * @return True wenn die Suche fertig ist, false wenn sie unterbrochen wurde.
+   */
+  private boolean runPlain(long stop, long deadline) {
+    int[] stackFree = this.stackFree;
+    int[] stackNumber = this.stackNumber;
+    int[] emptyCells = this.emptyCells;
+    int emptyCount = this.emptyCount;
+    int limit = this.solutionLimit;
+    int depth = this.depth;
+    int solutions = this.solutions;
+    int credited = this.credited;
+    long nodes = this.nodes;
+    // Bis hierhin ohne Prüfung, danach wird unterbrochen oder alle CLOCK_INTERVAL Knoten nach der Uhr gesehen.
+    long check = this.nextCheck(nodes, stop, deadline);
+    long backtracks = this.backtracks;
+    boolean descending = this.descending;
+    boolean finished = false;
+    while (true) {
+      int free;
+      if (descending) {
+        if (nodes >= check) {
+          if (nodes >= stop || System.nanoTime() - deadline >= 0) {
+            break;
+          }
+          check = this.nextCheck(nodes, stop, deadline);
+        }
+        nodes++;
+        if (depth == emptyCount) {
+          // Alle leeren Felder sind belegt, das Sudoku ist gelöst.
+          solutions++;
+          credited = depth;
+          if (solutions == 1 && recordSolution) {
+            copySolution();
+          }
+          if (keepSolution) {
+            finished = true;
+            break;
+          }
+          // Zurück auf die Ebene darüber.
+          depth--;
+          descending = false;
+          continue;
+        }
+        free = candidates(emptyCells[depth]);
+      } else {
+        if (depth < 0) {
+          depth = 0;
+          finished = true;
+          break;
+        }
+        // Die zuletzt probierte Zahl ist fertig durchsucht.
+        int cell = emptyCells[depth];
+        remove(rowOf[cell], columnOf[cell], stackNumber[depth]);
+        if (depth < credited) {
+          // Die Zahl hat zu einer Lösung geführt, die nächste auf dieser Ebene noch nicht.
+          credited = depth;
+        } else {
+          backtracks++;
+        }
+        free = stackFree[depth];
+      }
+      if (free != 0 && solutions < limit) {
+        int cell = emptyCells[depth];
+        int number = Integer.numberOfTrailingZeros(free);
+        stackFree[depth] = free & (free - 1);
+        stackNumber[depth] = number;
+        place(rowOf[cell], columnOf[cell], number);
+        depth++;
+        descending = true;
+      } else {
+        depth--;
+        descending = false;
+      }
+    }
+    this.depth = depth;
+    this.solutions = solutions;
+    this.credited = credited;
+    this.nodes = nodes;
+    this.backtracks = backtracks;
+    this.descending = descending;
+    return finished;
+  }
+
+  /**
+   * @return Der Stand von nodes, bei dem die Suche das nächste Mal Budget und Uhr prüft.
+   */
+  private long nextCheck(long nodes, long stop, long deadline) {
+    return deadline != 0 ? Math.min(stop, nodes + CLOCK_INTERVAL) : stop;
+  }
+
+  /**
+   * Suche mit Propagation: ein Knoten trägt erst alle Naked und Hidden Singles ein und verzweigt dann im Feld mit den wenigsten Kandidaten. Alles was eine Ebene
+   * setzt, nimmt sie beim Verlassen über den Trail wieder zurück, außer der gefundenen Lösung bei fill().
+   *
+   * @param stop Der Stand von nodes, bei dem unterbrochen wird.
+   * @param deadline Der Zeitpunkt nach System.nanoTime() zu dem unterbrochen wird, 0 für unbegrenzt.
+   * @return True wenn die Suche fertig ist, false wenn sie unterbrochen wurde.
+   */
+  private boolean runPropagated(long stop, long deadline) {
+    long check = this.nextCheck(nodes, stop, deadline);
+    while (true) {
+      if (descending) {
+        if (nodes >= check) {
+          if (nodes >= stop || System.nanoTime() - deadline >= 0) {
+            return false;
+          }
+          check = this.nextCheck(nodes, stop, deadline);
+        }
+        nodes++;
+        descending = false;
+        int mark = trailSize;
+        int cell = propagate() ? mostConstrainedCell() : CONTRADICTION;
+        if (cell == -1) {
+          solutions++;
+          if (solutions == 1 && recordSolution) {
+            copySolution();
+          }
+          if (keepSolution) {
+            return true;
+          }
+        }
+        if (cell < 0) {
+          // Zurück auf die Ebene darüber.
+          undo(mark);
+        } else {
+          stackCell[depth] = cell;
+          stackFree[depth] = candidates(cell);
+          stackMark[depth] = mark;
+          stackBranchMark[depth] = -1;
+          depth++;
+        }
+        continue;
+      }
+      if (depth == 0) {
+        return true;
+      }
+      int level = depth - 1;
+      if (stackBranchMark[level] >= 0) {
+        // Die zuletzt probierte Zahl ist fertig durchsucht.
+        if (solutions == stackSolutions[level]) {
+          backtracks++;
+        }
+        undo(stackBranchMark[level]);
+      }
+      int free = stackFree[level];
+      if (free != 0 && solutions < solutionLimit) {
+        stackFree[level] = free & (free - 1);
+        stackBranchMark[level] = trailSize;
+        stackSolutions[level] = solutions;
+        push(stackCell[level], Integer.numberOfTrailingZeros(free));
+        descending = true;
+      } else {
+        undo(stackMark[level]);
+        depth--;
+      }
+    }
+  }
+
+  /**
+   * Setzt Naked Singles und Hidden Singles bis sich nichts mehr ändert.
+   *
+   * @return False bei einem Widerspruch, also einem Feld ohne Kandidaten oder einer Zahl die in einer Einheit nirgends mehr stehen kann.
+   */
+  private boolean propagate() {
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (int i = 0; i < emptyCount; i++) {
+        int cell = emptyCells[i];
+        int row = cell / size;
+        int column = cell % size;
+        if (sudokuMatrix[row][column] != 0) {
+          continue;
+        }
+        int free = candidates(row, column);
+        if (free == 0) {
+          return false;
+        }
+        if ((free & (free - 1)) == 0) {
+          push(cell, Integer.numberOfTrailingZeros(free));
+          changed = true;
+        }
+      }
+      if (changed) {
+        // Erst wenn es keine Naked Singles mehr gibt, lohnt die teurere Suche nach Hidden Singles.
+        continue;
+      }
+      for (int unit = 0; unit < geometry.units.length; unit++) {
+        int once = 0;
+        int twice = 0;
+        for (int cell : geometry.units[unit]) {
+          if (sudokuMatrix[cell / size][cell % size] == 0) {
+            int free = candidates(cell / size, cell % size);
+            twice |= once & free;
+            once |= free;
+          }
+        }
+        if ((once | unitMask(unit)) != geometry.allNumbers) {
+          return false;
+        }
+        int single = once & ~twice;
+        while (single != 0) {
+          int number = Integer.numberOfTrailingZeros(single);
+          single &= single - 1;
+          if (!placeHiddenSingle(unit, number)) {
+            return false;
+          }
+          changed = true;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Setzt eine Zahl in das einzige Feld der Einheit, in dem sie noch stehen kann.
+   *
+   * @param unit Die Einheit wie in SudokuGeometry.units.
+   * @param number Die Zahl.
+   * @return False wenn das Feld inzwischen von einem anderen Hidden Single belegt wurde.
+   */
+  private boolean placeHiddenSingle(int unit, int number) {
+    for (int cell : geometry.units[unit]) {
+      if (sudokuMatrix[cell / size][cell % size] == 0 && (candidates(cell / size, cell % size) & 1 << number) != 0) {
+        push(cell, number);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Sucht das leere Feld mit den wenigsten Kandidaten.
+   *
+   * @return Das Feld (Reihe * size + Spalte) oder -1 wenn alle Felder belegt sind.
+   */
+  private int mostConstrainedCell() {
+    int best = -1;
+    int bestCount = Integer.MAX_VALUE;
+    for (int i = 0; i < emptyCount; i++) {
+      int cell = emptyCells[i];
+      if (sudokuMatrix[cell / size][cell % size] == 0) {
+        int count = Integer.bitCount(candidates(cell / size, cell % size));
+        if (count < bestCount) {
+          best = cell;
+          bestCount = count;
+          // Nach der Propagation hat jedes leere Feld mindestens zwei Kandidaten.
+          if (count <= 2) {
+            break;
+          }
+        }
+      }
+    }
+    return best;
+  }
+
+  /**
+   * @param unit Die Einheit wie in SudokuGeometry.units.
+   * @return Die in der Einheit belegten Zahlen als Bitmaske.
+   */
+  private int unitMask(int unit) {
+    if (unit < geometry.columns) {
+      return rowMask[unit - geometry.rows];
+    }
+    if (unit < geometry.blocks) {
+      return columnMask[unit - geometry.columns];
+    }
+    return blockMask[unit - geometry.blocks];
+  }
+
+  /**
+   * Setzt eine Zahl und merkt sich das Feld zum Zurücknehmen.
+   *
+   * @param cell Das Feld (Reihe * size + Spalte).
+   * @param number Die Zahl.
+   */
+  private void push(int cell, int number) {
+    place(rowOf[cell], columnOf[cell], number);
+    trail[trailSize++] = cell;
+  }
+
+  /**
+   * Nimmt alle seit der Marke gesetzten Felder in umgekehrter Reihenfolge zurück.
+   *
+   * @param mark Die Länge des Trails zu der zurückgekehrt wird.
+   */
+  private void undo(int mark) {
+    while (trailSize > mark) {
+      int cell = trail[--trailSize];
+      int row = rowOf[cell];
+      int column = columnOf[cell];
+      remove(row, column, sudokuMatrix[row][column]);
+    }
+  }
+
+  /**
+   * Ermittelt alle Nummern die in dem Feld noch erlaubt sind.
+   *
+   * @param row Die zu prüfende Reihe.
+   * @param column Die zu prüfende Spalte.
+   * @return Bitmaske der erlaubten Nummern (Bit n steht für die Zahl n).
+   */
+  private int candidates(int row, int column) {
+    return ~(rowMask[row] | columnMask[column] | blockMask[blockIndex[row * size + column]]) & geometry.allNumbers;
+  }
+
+  /**
+   * @param cell Das Feld (Reihe * size + Spalte).
+   * @return Bitmaske der erlaubten Nummern (Bit n steht für die Zahl n).
+   */
+  private int candidates(int cell) {
+    return ~(rowMask[rowOf[cell]] | columnMask[columnOf[cell]] | blockMask[blockIndex[cell]]) & geometry.allNumbers;
+  }
+
+  /**
+   * Setzt die Nummer in das Feld und markiert sie in Reihe, Spalte und Block als belegt.
+   *
+   * @param row Die Reihe.
+   * @param column Die Spalte.
+   * @param number Die zu setzende Nummer.
+   */
+  private void place(int row, int column, int number) {
+    int bit = 1 << number;
+    sudokuMatrix[row][column] = number;
+    rowMask[row] |= bit;
+    columnMask[column] |= bit;
+    blockMask[blockIndex[row * size + column]] |= bit;
+  }
+
+  /**
+   * Leert das Feld wieder und gibt die Nummer in Reihe, Spalte und Block frei.
+   *
+   * @param row Die Reihe.
+   * @param column Die Spalte.
+   * @param number Die zu entfernende Nummer.
+   */
+  private void remove(int row, int column, int number) {
+    int bit = ~(1 << number);
+    sudokuMatrix[row][column] = 0;
+    rowMask[row] &= bit;
+    columnMask[column] &= bit;
+    blockMask[blockIndex[row * size + column]] &= bit;
+  }
+
+  /**
+   * Baut die Bitmasken und die Liste der leeren Felder aus der aktuellen Sudokumatrix neu auf und setzt die Suche auf den ersten Knoten. Hat sich die Größe der Matrix
+   * geändert, werden die Arrays neu angelegt.
+   *
+   * @param rowOrder True für die leeren Felder zeilenweise wie in fill(), sonst spaltenweise wie in solve().
+   */
+  private void initMasks(boolean rowOrder) {
+    if (geometry == null || geometry.size != sudokuMatrix.length) {
+      geometry = SudokuGeometry.of(sudokuMatrix);
+      size = geometry.size;
+      blockIndex = geometry.blockOf;
+      rowOf = geometry.rowOf;
+      columnOf = geometry.columnOf;
+      rowMask = new int[size];
+      columnMask = new int[size];
+      blockMask = new int[size];
+      emptyCells = new int[geometry.cells];
+      firstSolution = new int[geometry.cells];
+      stackFree = new int[geometry.cells];
+      // Jeder Modus braucht nur seinen Teil des Stapels.
+      if (propagation) {
+        trail = new int[geometry.cells];
+        stackSolutions = new int[geometry.cells];
+        stackCell = new int[geometry.cells];
+        stackMark = new int[geometry.cells];
+        stackBranchMark = new int[geometry.cells];
+      } else {
+        stackNumber = new int[geometry.cells];
+      }
+    }
+    trailSize = 0;
+    depth = 0;
+    credited = 0;
+    descending = true;
+    solutions = 0;
+    for (int i = 0; i < size; i++) {
+      rowMask[i] = 0;
+      columnMask[i] = 0;
+      blockMask[i] = 0;
+    }
+    emptyCount = 0;
+    // Spaltenweise, damit solve() die Felder in der gleichen Reihenfolge wie bisher besucht.
+    for (int column = 0; column < size; column++) {
+      for (int row = 0; row < size; row++) {
+        int number = sudokuMatrix[row][column];
+        if (number == 0) {
+          if (!rowOrder) {
+            emptyCells[emptyCount++] = row * size + column;
+          }
+        } else {
+          int bit = 1 << number;
+          rowMask[row] |= bit;
+          columnMask[column] |= bit;
+          blockMask[blockIndex[row * size + column]] |= bit;
+        }
+      }
+    }
+    if (rowOrder) {
+      for (int cell = 0; cell < geometry.cells; cell++) {
+        if (sudokuMatrix[cell / size][cell % size] == 0) {
+          emptyCells[emptyCount++] = cell;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package sudoku;
+
+/**
+ * Die Lösungstechniken des HumanSolvers mit ihren Kosten für die Bewertung, geordnet von der einfachsten zur schwersten. Der SudokuHintEngine begründet seine
+ * Tipps mit den ersten drei.
+ */
+enum SudokuTechnique {
+
+  // Im Feld ist nur noch eine Zahl möglich.
+  NAKED_SINGLE("Naked Single", 1),
+  // Die Zahl ist in einer Reihe, Spalte oder einem Block nur noch in diesem Feld möglich.
+  HIDDEN_SINGLE("Hidden Single", 2),
+  // Zwei Felder einer Einheit mit den gleichen zwei Kandidaten schließen diese im Rest der Einheit aus.
+  NAKED_PAIR("Naked Pair", 5),
+  // Steht eine Zahl im Block nur in einer Reihe oder Spalte, fällt sie im Rest dieser Reihe oder Spalte weg.
+  POINTING_PAIR("Pointing Pair", 6),
+  // Steht eine Zahl in einer Reihe oder Spalte nur in einem Block, fällt sie im Rest des Blocks weg.
+  BOX_LINE_REDUCTION("Box/Line Reduction", 6),
+  // Zwei Zahlen die in einer Einheit nur in denselben zwei Feldern möglich sind, schließen dort alle anderen Kandidaten aus.
+  HIDDEN_PAIR("Hidden Pair", 8),
+  // Wie Hidden Pair mit drei Zahlen in drei Feldern.
+  HIDDEN_TRIPLE("Hidden Triple", 10),
+  // Eine Zahl ist in zwei Reihen nur in denselben zwei Spalten möglich (oder umgekehrt) und fällt im Rest dieser Spalten weg.
+  X_WING("X-Wing", 15),
+  // Wie X-Wing mit drei Reihen und drei Spalten.
+  SWORDFISH("Swordfish", 20);
+
+  private final String label;
+  private final int cost;
+
+  SudokuTechnique(String label, int cost) {
+    this.label = label;
+    this.cost = cost;
+  }
+
+  /**
+   * @return Der Name der Technik für die Anzeige.
+   */
+  String getLabel() {
+    return this.label;
+  }
+
+  /**
+   * @return Was eine Anwendung der Technik zur Bewertung beiträgt.
+   */
+  int getCost() {
+    return this.cost;
+  }
+}
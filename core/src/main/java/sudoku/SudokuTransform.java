@@ -0,0 +1,124 @@
+package sudoku;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Eine Symmetrie des Sudokus: Tauschen von Bändern und Stapeln, von Reihen innerhalb eines Bandes und Spalten innerhalb eines Stapels, Spiegeln an der Diagonalen und
+ * Umbenennen der Zahlen.
+ * <p>
+ * Solche Umformungen erhalten die Eindeutigkeit, aus einem Sudoku lassen sich so viele ableiten ohne neu zu erzeugen. Ob die Variante genauso schwer ist, hängt
+ * vom Bewerter ab, deshalb bewertet apply(GeneratedSudoku) jede Variante neu.
+ */
+class SudokuTransform {
+
+  // Reihe bzw. Spalte des Ausgangssudokus für jede Reihe bzw. Spalte des Ergebnisses.
+  private final int[] rows;
+  private final int[] columns;
+  // Neue Zahl für jede Zahl, Index 0 bleibt 0.
+  private final int[] numbers;
+  private final boolean transposed;
+
+  private SudokuTransform(int[] rows, int[] columns, int[] numbers, boolean transposed) {
+    this.rows = rows;
+    this.columns = columns;
+    this.numbers = numbers;
+    this.transposed = transposed;
+  }
+
+  /**
+   * Wählt eine zufällige Symmetrie eines 9 * 9 Sudokus aus allen 2 * 1296 * 1296 * 9! gleichverteilt.
+   *
+   * @param random Die Zufallsquelle.
+   * @return Die Symmetrie.
+   */
+  static SudokuTransform random(RandomGenerator random) {
+    return random(random, Sudoku.DEFAULT_SIZE);
+  }
+
+  /**
+   * Wählt eine zufällige Symmetrie eines Sudokus der angegebenen Größe gleichverteilt.
+   *
+   * @param random Die Zufallsquelle.
+   * @param size Die Anzahl der Reihen.
+   * @return Die Symmetrie.
+   */
+  static SudokuTransform random(RandomGenerator random, int size) {
+    int blockSize = SudokuGeometry.of(size).blockSize;
+    int[] numbers = new int[size + 1];
+    int[] shuffled = shuffle(random, size);
+    for (int i = 0; i < size; i++) {
+      numbers[i + 1] = shuffled[i] + 1;
+    }
+    return new SudokuTransform(lineOrder(random, blockSize), lineOrder(random, blockSize), numbers, random.nextBoolean());
+  }
+
+  /**
+   * Wendet die Symmetrie auf eine Matrix an.
+   *
+   * @param sudokuMatrix Die Matrix, leere Felder sind 0. Wird nicht verändert.
+   * @return Die umgeformte Matrix.
+   */
+  int[][] apply(int[][] sudokuMatrix) {
+    int size = this.rows.length;
+    int[][] result = new int[size][size];
+    for (int row = 0; row < size; row++) {
+      int[] source = this.transposed ? null : sudokuMatrix[this.rows[row]];
+      for (int column = 0; column < size; column++) {
+        int number = this.transposed ? sudokuMatrix[this.columns[column]][this.rows[row]] : source[this.columns[column]];
+        result[row][column] = this.numbers[number];
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Leitet aus einem Sudoku ein neues ab. Die Lösung wird mit umgeformt, Schwierigkeitsgrad und Bewertung ermittelt der HumanSolver für die Variante neu.
+   *
+   * @param sudoku Das Ausgangssudoku.
+   * @return Das abgeleitete Sudoku.
+   */
+  GeneratedSudoku apply(GeneratedSudoku sudoku) {
+    int[][] sudokuMatrix = this.apply(sudoku.getSudokuMatrix());
+    // Der HumanSolver trägt seine Zahlen in die Matrix ein, bewertet wird daher eine Kopie.
+    HumanSolver humanSolver = new HumanSolver(this.apply(sudoku.getSudokuMatrix()));
+    return new GeneratedSudoku(sudokuMatrix, this.apply(sudoku.getSudokuMatrixSolution()), humanSolver.getDifficulty(), humanSolver.getRating());
+  }
+
+  /**
+   * Zufällige Reihenfolge der Reihen bzw. Spalten, die Bänder bzw. Stapel zusammenhält.
+   *
+   * @param random Die Zufallsquelle.
+   * @param blockSize Die Anzahl der Reihen eines Bandes.
+   * @return Die Reihenfolge.
+   */
+  private static int[] lineOrder(RandomGenerator random, int blockSize) {
+    int[] order = new int[blockSize * blockSize];
+    int[] bands = shuffle(random, blockSize);
+    for (int band = 0; band < blockSize; band++) {
+      int[] lines = shuffle(random, blockSize);
+      for (int line = 0; line < blockSize; line++) {
+        order[band * blockSize + line] = bands[band] * blockSize + lines[line];
+      }
+    }
+    return order;
+  }
+
+  /**
+   * @param random Die Zufallsquelle.
+   * @param length Die Länge.
+   * @return Eine zufällige Permutation von 0 bis length - 1 (Fisher-Yates).
+   */
+  static int[] shuffle(RandomGenerator random, int length) {
+    int[] permutation = new int[length];
+    for (int i = 0; i < length; i++) {
+      permutation[i] = i;
+    }
+    for (int i = length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int swap = permutation[i];
+      permutation[i] = permutation[j];
+      permutation[j] = swap;
+    }
+    return permutation;
+  }
+}
@@ -0,0 +1,37 @@
+package sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class HumanSolverTest {
+
+  private static final int PUZZLES = 30;
+  private static final int VARIANTS = 5;
+
+  @Test
+  void ratingIsTheSameForAllVariants() {
+    SplittableRandom random = new SplittableRandom(7);
+    for (int i = 0; i < PUZZLES; i++) {
+      int[][] sudokuMatrix = SudokuGenerator.generate(i % 3, Sudoku.SOLVER_DLX, Sudoku.DEFAULT_SIZE, random.nextLong(), null).getSudokuMatrix();
+      HumanSolver seed = new HumanSolver(TestSudokus.copy(sudokuMatrix));
+      int rating = seed.getRating();
+      int difficulty = seed.getDifficulty();
+      for (int k = 0; k < VARIANTS; k++) {
+        HumanSolver variant = new HumanSolver(SudokuTransform.random(random).apply(sudokuMatrix));
+        assertEquals(rating, variant.getRating(), "Bewertung einer Variante von Sudoku " + i);
+        assertEquals(difficulty, variant.getDifficulty(), "Schwierigkeitsgrad einer Variante von Sudoku " + i);
+      }
+    }
+  }
+
+  @Test
+  void solvesEasySudokuWithSingles() {
+    int[][] sudokuMatrix = TestSudokus.parse(TestSudokus.EASY);
+    HumanSolver humanSolver = new HumanSolver(sudokuMatrix);
+    assertEquals(Sudoku.EASY, humanSolver.getDifficulty());
+    assertTrue(humanSolver.isSolvedByTechniques());
+  }
+}
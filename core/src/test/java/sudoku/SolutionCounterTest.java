@@ -0,0 +1,42 @@
+package sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class SolutionCounterTest {
+
+  private final SolutionCounter counter = new SolutionCounter();
+
+  @Test
+  void countsUniqueAmbiguousAndConflictingSudokus() {
+    assertEquals(1, this.counter.count(TestSudokus.parse(TestSudokus.EASY), SolutionCounter.UNLIMITED));
+    assertEquals(2, this.counter.count(TestSudokus.parse(TestSudokus.AMBIGUOUS), 2));
+    assertEquals(0, this.counter.count(TestSudokus.parse(TestSudokus.CONFLICT), SolutionCounter.UNLIMITED));
+  }
+
+  @Test
+  void countsAllSolutionsWithoutLimit() {
+    // Ein leeres 4 * 4 Sudoku hat 288 Lösungen.
+    assertEquals(288, this.counter.count(new int[4][4], SolutionCounter.UNLIMITED));
+  }
+
+  @Test
+  void stopsAtTheLimit() {
+    int[][] empty = new int[Sudoku.DEFAULT_SIZE][Sudoku.DEFAULT_SIZE];
+    assertEquals(1000, this.counter.count(empty, 1000));
+    assertEquals(1, this.counter.count(empty, 1));
+  }
+
+  @Test
+  void stopsAtTheDeadline() {
+    // Alle Lösungen eines leeren 9 * 9 Sudokus sind in 50 ms nicht zu zählen.
+    int[][] empty = new int[Sudoku.DEFAULT_SIZE][Sudoku.DEFAULT_SIZE];
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+    assertThrows(CancellationException.class, () -> this.counter.count(empty, SolutionCounter.UNLIMITED, deadline));
+  }
+}
@@ -0,0 +1,80 @@
+package sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class SolverTest {
+
+  private static final String[] ENGINES = {Sudoku.SOLVER_BACKTRACKING, Sudoku.SOLVER_PROPAGATION, Sudoku.SOLVER_DLX};
+
+  @Test
+  void enginesAgreeOnSolutionCounts() {
+    this.assertSolutions(1, TestSudokus.parse(TestSudokus.EASY));
+    this.assertSolutions(1, TestSudokus.parse(TestSudokus.HARD_17));
+    this.assertSolutions(2, TestSudokus.parse(TestSudokus.AMBIGUOUS));
+    this.assertSolutions(0, TestSudokus.parse(TestSudokus.CONFLICT));
+    this.assertSolutions(2, new int[4][4]);
+  }
+
+  @Test
+  void enginesAgreeOnGeneratedSudokus() {
+    SplittableRandom random = new SplittableRandom(3);
+    for (int i = 0; i < 10; i++) {
+      int[][] sudokuMatrix = SudokuGenerator.generate(i % 3, Sudoku.SOLVER_DLX, Sudoku.DEFAULT_SIZE, random.nextLong(), null).getSudokuMatrix();
+      this.assertSolutions(1, sudokuMatrix);
+      // Ohne eine Vorgabe wird das Sudoku mehrdeutig oder bleibt eindeutig, aber bei allen Verfahren gleich.
+      int[][] fewer = TestSudokus.copy(sudokuMatrix);
+      outer:
+      for (int[] row : fewer) {
+        for (int column = 0; column < row.length; column++) {
+          if (row[column] != 0) {
+            row[column] = 0;
+            break outer;
+          }
+        }
+      }
+      this.assertSolutions(new DancingLinksSolver(TestSudokus.copy(fewer)).solve(), fewer);
+    }
+  }
+
+  @Test
+  void solveAndFillWritesTheSolution() {
+    int[][] expected = TestSudokus.parse(TestSudokus.HARD_17);
+    new DancingLinksSolver(expected).fill();
+    for (String engine : ENGINES) {
+      int[][] sudokuMatrix = TestSudokus.parse(TestSudokus.HARD_17);
+      assertEquals(1, Solver.create(engine, sudokuMatrix).solveAndFill(), engine);
+      assertArrayEquals(expected, sudokuMatrix, engine);
+    }
+  }
+
+  @Test
+  void solveAndFillLeavesTheSudokuAloneWithoutSolutionOrBudget() {
+    for (String engine : ENGINES) {
+      int[][] conflict = TestSudokus.parse(TestSudokus.CONFLICT);
+      assertEquals(0, Solver.create(engine, conflict).solveAndFill(), engine);
+      assertArrayEquals(TestSudokus.parse(TestSudokus.CONFLICT), conflict, engine);
+
+      // Die Propagation löst HARD_17 in einem Knoten, ein leeres Sudoku braucht bei allen Verfahren mehr.
+      int[][] empty = new int[Sudoku.DEFAULT_SIZE][Sudoku.DEFAULT_SIZE];
+      Solver solver = Solver.create(engine, empty);
+      solver.setSearchLimit(1);
+      assertEquals(Solver.UNDECIDED, solver.solveAndFill(), engine);
+      assertArrayEquals(new int[Sudoku.DEFAULT_SIZE][Sudoku.DEFAULT_SIZE], empty, engine);
+      // Ohne Grenze ist der Solver danach wieder normal nutzbar.
+      solver.setSearchLimit(0);
+      assertEquals(2, solver.solve(), engine);
+    }
+  }
+
+  private void assertSolutions(int expected, int[][] sudokuMatrix) {
+    for (String engine : ENGINES) {
+      int[][] copy = TestSudokus.copy(sudokuMatrix);
+      assertEquals(expected, Solver.create(engine, copy).solve(), engine);
+      assertArrayEquals(sudokuMatrix, copy, engine + " verändert das Sudoku");
+    }
+  }
+}
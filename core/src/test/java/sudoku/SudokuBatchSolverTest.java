@@ -0,0 +1,49 @@
+package sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SudokuBatchSolverTest {
+
+  @Test
+  void skipsBlankLinesAndMarksInvalidOnes() throws IOException {
+    List<String> output = this.solve(new SudokuBatchSolver(Sudoku.SOLVER_DLX, 2, 0), 4,
+        TestSudokus.EASY + "\n\n" + TestSudokus.AMBIGUOUS + "\r\n\r\n" + "123\n" + TestSudokus.CONFLICT);
+    assertTrue(output.get(0).startsWith("534678912"));
+    assertTrue(output.get(0).endsWith(",1"));
+    assertTrue(output.get(1).endsWith(",2"));
+    assertEquals("123,-1", output.get(2));
+    assertEquals(TestSudokus.CONFLICT + ",0", output.get(3));
+  }
+
+  @Test
+  void reportsPuzzlesOverTheTimeoutAsUnsolved() throws IOException {
+    // Das reine Backtracking braucht für HARD_17 einige Millionen Knoten.
+    List<String> output = this.solve(new SudokuBatchSolver(Sudoku.SOLVER_BACKTRACKING, 1, 1), 2, TestSudokus.HARD_17 + "\n" + TestSudokus.EASY + "\n");
+    assertEquals(TestSudokus.HARD_17 + ",-2", output.get(0));
+    assertTrue(output.get(1).endsWith(",1"));
+  }
+
+  private List<String> solve(SudokuBatchSolver batchSolver, long expectedLines, String input) throws IOException {
+    Path directory = Files.createTempDirectory("sudoku");
+    try {
+      Path source = Files.writeString(directory.resolve("puzzles.txt"), input);
+      Path target = directory.resolve("solved.txt");
+      assertEquals(expectedLines, batchSolver.solveFile(source, target));
+      List<String> output = Files.readAllLines(target, StandardCharsets.US_ASCII);
+      assertEquals(expectedLines, output.size());
+      Files.delete(source);
+      Files.delete(target);
+      return output;
+    } finally {
+      Files.delete(directory);
+    }
+  }
+}
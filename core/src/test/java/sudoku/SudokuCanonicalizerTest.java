@@ -0,0 +1,42 @@
+package sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class SudokuCanonicalizerTest {
+
+  private static final int PUZZLES = 20;
+  private static final int VARIANTS = 5;
+
+  private final SudokuCanonicalizer canonicalizer = new SudokuCanonicalizer();
+
+  @Test
+  void canonicalFormIsTheSameForAllVariants() {
+    SplittableRandom random = new SplittableRandom(5);
+    for (int i = 0; i < PUZZLES; i++) {
+      int[][] sudokuMatrix = SudokuGenerator.generate(i % 3, Sudoku.SOLVER_DLX, Sudoku.DEFAULT_SIZE, random.nextLong(), null).getSudokuMatrix();
+      String form = this.canonicalizer.canonicalForm(sudokuMatrix);
+      long hash = this.canonicalizer.canonicalHash(sudokuMatrix);
+      for (int k = 0; k < VARIANTS; k++) {
+        int[][] variant = SudokuTransform.random(random).apply(sudokuMatrix);
+        assertEquals(form, this.canonicalizer.canonicalForm(variant), "Kanonische Form einer Variante von Sudoku " + i);
+        assertEquals(hash, this.canonicalizer.canonicalHash(variant), "Hash einer Variante von Sudoku " + i);
+      }
+    }
+  }
+
+  @Test
+  void differentSudokusHaveDifferentForms() {
+    assertNotEquals(this.canonicalizer.canonicalForm(TestSudokus.parse(TestSudokus.EASY)),
+        this.canonicalizer.canonicalForm(TestSudokus.parse(TestSudokus.AMBIGUOUS)));
+  }
+
+  @Test
+  void rejectsOtherSizes() {
+    assertThrows(IllegalArgumentException.class, () -> this.canonicalizer.canonicalForm(new int[16][16]));
+  }
+}
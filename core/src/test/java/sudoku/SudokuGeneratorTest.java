@@ -0,0 +1,42 @@
+package sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class SudokuGeneratorTest {
+
+  private static final String[] ENGINES = {Sudoku.SOLVER_BACKTRACKING, Sudoku.SOLVER_PROPAGATION, Sudoku.SOLVER_DLX};
+
+  @Test
+  void sameSeedGivesSameSudoku() {
+    for (String engine : ENGINES) {
+      for (int difficulty = Sudoku.EASY; difficulty <= Sudoku.HARD; difficulty++) {
+        GeneratedSudoku first = SudokuGenerator.generate(difficulty, engine, Sudoku.DEFAULT_SIZE, 42, null);
+        GeneratedSudoku second = SudokuGenerator.generate(difficulty, engine, Sudoku.DEFAULT_SIZE, 42, null);
+        assertArrayEquals(first.getSudokuMatrix(), second.getSudokuMatrix(), engine + " " + difficulty);
+        assertEquals(first.getRating(), second.getRating(), engine + " " + difficulty);
+        assertEquals(difficulty, first.getDifficulty());
+      }
+    }
+  }
+
+  @Test
+  void regenerateGivesSameSudoku() {
+    for (String engine : ENGINES) {
+      GeneratedSudoku generated = SudokuGenerator.generate(Sudoku.NORMAL, engine, Sudoku.DEFAULT_SIZE, 7, null);
+      GeneratedSudoku regenerated = SudokuGenerator.regenerate(generated.getSeed().getAsLong(), Sudoku.NORMAL, engine, Sudoku.DEFAULT_SIZE);
+      assertArrayEquals(generated.getSudokuMatrix(), regenerated.getSudokuMatrix(), engine);
+      assertArrayEquals(generated.getSudokuMatrixSolution(), regenerated.getSudokuMatrixSolution(), engine);
+      assertEquals(generated.getRating(), regenerated.getRating(), engine);
+    }
+  }
+
+  @Test
+  void generatedSudokuIsUnique() {
+    int[][] sudokuMatrix = SudokuGenerator.generate(Sudoku.HARD, Sudoku.DEFAULT_SOLVER, Sudoku.DEFAULT_SIZE, 1, null).getSudokuMatrix();
+    assertTrue(new DancingLinksSolver(TestSudokus.copy(sudokuMatrix)).isUnique());
+  }
+}
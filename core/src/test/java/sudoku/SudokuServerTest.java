@@ -0,0 +1,114 @@
+package sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.junit.jupiter.api.Test;
+
+class SudokuServerTest {
+
+  private final HttpClient client = HttpClient.newHttpClient();
+
+  @Test
+  void rejectsOtherMethods() throws Exception {
+    SudokuServer server = new SudokuServer(Sudoku.SOLVER_PROPAGATION, 1, 1000, null);
+    int port = server.start(0);
+    try {
+      HttpResponse<String> response = this.send(HttpRequest.newBuilder(uri(port, "/solve")).DELETE());
+      assertEquals(405, response.statusCode());
+    } finally {
+      server.stop();
+    }
+  }
+
+  @Test
+  void answersInvalidRequestsWith400() throws Exception {
+    SudokuServer server = new SudokuServer(Sudoku.SOLVER_PROPAGATION, 1, 1000, null);
+    int port = server.start(0);
+    try {
+      HttpResponse<String> missing = this.get(port, "/solve");
+      assertEquals(400, missing.statusCode());
+      assertEquals("{\"error\":\"Parameter puzzle fehlt\"}", missing.body());
+      assertEquals(400, this.get(port, "/generate?difficulty=impossible").statusCode());
+      assertEquals(400, this.get(port, "/count?puzzle=123").statusCode());
+      assertEquals(400, this.get(port, "/count?limit=zwei&puzzle=" + TestSudokus.AMBIGUOUS).statusCode());
+      assertEquals(400, this.get(port, "/count?limit=-1&puzzle=" + TestSudokus.AMBIGUOUS).statusCode());
+      assertEquals(400, this.get(port, "/grade?puzzle=" + TestSudokus.CONFLICT).statusCode());
+    } finally {
+      server.stop();
+    }
+  }
+
+  @Test
+  void answersExpiredRequestsWith503() throws Exception {
+    // Ohne Zeit beginnt die Erzeugung keinen Versuch.
+    SudokuServer server = new SudokuServer(Sudoku.SOLVER_PROPAGATION, 1, 0, null);
+    int port = server.start(0);
+    try {
+      assertEquals(503, this.get(port, "/generate?seed=1").statusCode());
+    } finally {
+      server.stop();
+    }
+  }
+
+  @Test
+  void answersUnexpectedErrorsWith500() throws Exception {
+    SudokuServer sudokuServer = new SudokuServer(Sudoku.SOLVER_PROPAGATION, 1, 1000, null);
+    HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/state", sudokuServer.handler((parameters, deadline) -> {
+      throw new IllegalStateException("kaputt");
+    }));
+    server.createContext("/null", sudokuServer.handler((parameters, deadline) -> {
+      throw new IllegalArgumentException();
+    }));
+    server.start();
+    try {
+      int port = server.getAddress().getPort();
+      HttpResponse<String> state = this.get(port, "/state");
+      assertEquals(500, state.statusCode());
+      assertEquals("{\"error\":\"kaputt\"}", state.body());
+      HttpResponse<String> withoutMessage = this.get(port, "/null");
+      assertEquals(400, withoutMessage.statusCode());
+      assertEquals("{\"error\":\"Fehler\"}", withoutMessage.body());
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  void solvesAndCounts() throws Exception {
+    SudokuServer server = new SudokuServer(Sudoku.SOLVER_PROPAGATION, 1, 1000, null);
+    int port = server.start(0);
+    try {
+      HttpResponse<String> solved = this.get(port, "/solve?puzzle=" + TestSudokus.EASY);
+      assertEquals(200, solved.statusCode());
+      assertEquals(true, solved.body().startsWith("{\"solutions\":1,\"solution\":[[5,3,4,"));
+      assertEquals("{\"solutions\":0}", this.get(port, "/count?puzzle=" + TestSudokus.CONFLICT).body());
+      assertEquals("{\"solutions\":1}", this.get(port, "/count?puzzle=" + TestSudokus.EASY).body());
+      assertEquals("{\"solutions\":2}", this.get(port, "/count?puzzle=" + TestSudokus.AMBIGUOUS).body());
+      String empty = "0".repeat(81);
+      assertEquals("{\"solutions\":500}", this.get(port, "/count?limit=500&puzzle=" + empty).body());
+    } finally {
+      server.stop();
+    }
+  }
+
+  private HttpResponse<String> get(int port, String path) throws IOException, InterruptedException {
+    return this.send(HttpRequest.newBuilder(uri(port, path)).GET());
+  }
+
+  private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+    return this.client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+  }
+
+  private static URI uri(int port, String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+}
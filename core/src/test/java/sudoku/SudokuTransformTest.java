@@ -0,0 +1,36 @@
+package sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class SudokuTransformTest {
+
+  @Test
+  void variantIsGradedAgain() {
+    SplittableRandom random = new SplittableRandom(11);
+    GeneratedSudoku sudoku = SudokuGenerator.generate(Sudoku.NORMAL, Sudoku.SOLVER_DLX, Sudoku.DEFAULT_SIZE, random.nextLong(), null);
+    for (int i = 0; i < 10; i++) {
+      GeneratedSudoku variant = SudokuTransform.random(random).apply(sudoku);
+      HumanSolver humanSolver = new HumanSolver(TestSudokus.copy(variant.getSudokuMatrix()));
+      assertEquals(humanSolver.getDifficulty(), variant.getDifficulty());
+      assertEquals(humanSolver.getRating(), variant.getRating());
+    }
+  }
+
+  @Test
+  void solutionIsTransformedWithThePuzzle() {
+    SplittableRandom random = new SplittableRandom(12);
+    GeneratedSudoku sudoku = SudokuGenerator.generate(Sudoku.EASY, Sudoku.SOLVER_DLX, Sudoku.DEFAULT_SIZE, random.nextLong(), null);
+    GeneratedSudoku variant = SudokuTransform.random(random).apply(sudoku);
+    int[][] solved = TestSudokus.copy(variant.getSudokuMatrix());
+    Solver solver = Solver.create(Sudoku.SOLVER_DLX, solved);
+    assertEquals(1, solver.solveAndFill());
+    for (int row = 0; row < Sudoku.DEFAULT_SIZE; row++) {
+      for (int column = 0; column < Sudoku.DEFAULT_SIZE; column++) {
+        assertEquals(variant.getSudokuMatrixSolution()[row][column], solved[row][column]);
+      }
+    }
+  }
+}
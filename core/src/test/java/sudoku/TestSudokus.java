@@ -0,0 +1,39 @@
+package sudoku;
+
+/**
+ * Feste Sudokus und Hilfsmethoden für die Tests.
+ */
+final class TestSudokus {
+
+  // Eindeutig, nur mit Singles lösbar.
+  static final String EASY = "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+  // Eindeutig, 17 Vorgaben und für das Backtracking besonders ungünstig.
+  static final String HARD_17 = "000000010400000000020000000000050407008000300001090000300400200050100000000806000";
+  // EASY ohne die letzten beiden Vorgaben, mehrdeutig.
+  static final String AMBIGUOUS = "530070000600195000098000060800060003400803001700020006060000280000419005000080000";
+  // EASY mit zwei 5 in der ersten Reihe, ohne Lösung.
+  static final String CONFLICT = "550070000600195000098000060800060003400803001700020006060000280000419005000080079";
+
+  private TestSudokus() {
+  }
+
+  /**
+   * @param puzzle 81 Ziffern, 0 für leere Felder.
+   * @return Das Sudoku als Matrix.
+   */
+  static int[][] parse(String puzzle) {
+    int[][] sudokuMatrix = new int[Sudoku.DEFAULT_SIZE][Sudoku.DEFAULT_SIZE];
+    for (int i = 0; i < puzzle.length(); i++) {
+      sudokuMatrix[i / Sudoku.DEFAULT_SIZE][i % Sudoku.DEFAULT_SIZE] = puzzle.charAt(i) - '0';
+    }
+    return sudokuMatrix;
+  }
+
+  static int[][] copy(int[][] sudokuMatrix) {
+    int[][] copy = new int[sudokuMatrix.length][];
+    for (int row = 0; row < sudokuMatrix.length; row++) {
+      copy[row] = sudokuMatrix[row].clone();
+    }
+    return copy;
+  }
+}
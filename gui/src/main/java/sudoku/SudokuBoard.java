@@ -0,0 +1,416 @@
+package sudoku;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import javax.swing.JComponent;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+
+/**
+ * Das Spielfeld als eine selbst gezeichnete Komponente statt eines Textfeldes je Feld.
+ * <p>
+ * Das Board hält den Spielstand in einer CandidateBoard und zeichnet daraus Zahlen, Konflikte und Notizen. Ein Feld wird mit der Maus oder den Pfeiltasten
+ * gewählt und mit den Zifferntasten gefüllt, bei mehr als 9 Zahlen auch zweistellig. Entf, Rücktaste und 0 löschen. Jede Änderung, ob eine Eingabe oder ein
+ * ganzes neues Sudoku, meldet sich mit genau einem ChangeEvent. Nach einer Eingabe werden nur Reihe, Spalte und Block des Feldes neu gezeichnet, denn nur
+ * dort können sich Konflikte und Notizen ändern, beim Wechsel der Auswahl nur das alte und das neue Feld. Das ganze Board wird nur für ein neues Sudoku, eine
+ * neue Größe, einen Tipp, das Markieren falscher Eingaben oder das Umschalten der Notizen gezeichnet. Nur im EDT verwenden.
+ */
+class SudokuBoard extends JComponent {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final Color BACKGROUND_COLOR = Color.white;
+  private static final Color SELECTION_COLOR = new Color(200, 222, 255);
+  private static final Color HINT_COLOR = new Color(255, 243, 176);
+  private static final Color GIVEN_COLOR = Color.black;
+  private static final Color ENTRY_COLOR = new Color(30, 70, 160);
+  private static final Color WRONG_COLOR = Color.red;
+  private static final Color CONFLICT_COLOR = new Color(220, 40, 40);
+  private static final Color PENCIL_MARK_COLOR = Color.gray;
+  private static final Color GRID_COLOR = Color.lightGray;
+  private static final Color BLOCK_COLOR = Color.darkGray;
+  // Kleiner lassen sich die Notizen nicht mehr lesen.
+  private static final int MIN_PENCIL_MARK_FONT_SIZE = 6;
+  private static final int CELL_SIZE = 36;
+
+  private SudokuGeometry geometry;
+  // Der Spielstand, Eingaben werden direkt hier eingetragen.
+  private int[][] sudokuMatrix;
+  // Zähler je Reihe, Spalte und Block für Konflikte und Notizen.
+  private CandidateBoard candidateBoard;
+  // Die Vorgaben des Sudokus, sie lassen sich nicht ändern.
+  private boolean[] givens;
+  // Von validateSudoku() als falsch markierte Felder, bis zur nächsten Eingabe im Feld.
+  private boolean[] wrong;
+  private boolean showPencilMarks = true;
+  private int selected;
+  // Das Feld des angezeigten Tipps, -1 wenn keiner markiert ist.
+  private int hintCell = -1;
+  // Das Feld der letzten Zifferntaste, eine weitere Ziffer ergänzt dort eine zweistellige Zahl.
+  private int typedCell = -1;
+  private Font valueFont;
+  private Font pencilMarkFont;
+
+  SudokuBoard(int size) {
+    this.setBoardSize(size);
+    this.setFocusable(true);
+    this.setOpaque(true);
+    this.addMouseListener(new MouseAdapter() {
+      @Override
+      public void mousePressed(MouseEvent e) {
+        int cell = cellAt(e.getX(), e.getY());
+        if (cell >= 0) {
+          select(cell);
+        }
+        requestFocusInWindow();
+      }
+    });
+    this.addKeyListener(new KeyAdapter() {
+      @Override
+      public void keyPressed(KeyEvent e) {
+        handleKey(e);
+      }
+
+      @Override
+      public void keyTyped(KeyEvent e) {
+        char key = e.getKeyChar();
+        if (key >= '0' && key <= '9') {
+          typeDigit(key - '0');
+        }
+      }
+    });
+  }
+
+  /**
+   * Stellt das Board auf eine neue Größe um, das alte Sudoku wird verworfen.
+   *
+   * @param size Die Anzahl der Reihen.
+   */
+  void setBoardSize(int size) {
+    this.geometry = SudokuGeometry.of(size);
+    this.setSudokuMatrix(new int[size][size]);
+    this.selected = 0;
+    this.revalidate();
+  }
+
+  /**
+   * Übernimmt ein neues Sudoku, alle gefüllten Felder gelten als Vorgaben. Meldet sich mit einem einzigen ChangeEvent.
+   *
+   * @param sudokuMatrix Die Sudokumatrix in der Größe des Boards, Eingaben werden in sie eingetragen.
+   */
+  void setSudokuMatrix(int[][] sudokuMatrix) {
+    this.sudokuMatrix = sudokuMatrix;
+    this.candidateBoard = new CandidateBoard(this.geometry.size);
+    this.candidateBoard.sync(sudokuMatrix);
+    this.givens = new boolean[this.geometry.cells];
+    this.wrong = new boolean[this.geometry.cells];
+    for (int cell = 0; cell < this.geometry.cells; cell++) {
+      this.givens[cell] = this.candidateBoard.get(cell) != 0;
+    }
+    this.hintCell = -1;
+    this.typedCell = -1;
+    this.repaint();
+    this.fireStateChanged();
+  }
+
+  /**
+   * @return Der Spielstand, leere Felder sind 0.
+   */
+  int[][] getSudokuMatrix() {
+    return this.sudokuMatrix;
+  }
+
+  /**
+   * @return True wenn alle Felder gefüllt sind und es keinen Konflikt gibt.
+   */
+  boolean isSolved() {
+    return this.candidateBoard.isSolved();
+  }
+
+  /**
+   * Markiert alle Eingaben rot, die nicht der Lösung entsprechen.
+   *
+   * @param sudokuMatrixSolution Die Lösungsmatrix.
+   */
+  void markWrong(int[][] sudokuMatrixSolution) {
+    for (int cell = 0; cell < this.geometry.cells; cell++) {
+      int number = this.candidateBoard.get(cell);
+      this.wrong[cell] = number != 0 && number != sudokuMatrixSolution[this.geometry.rowOf[cell]][this.geometry.columnOf[cell]];
+    }
+    this.repaint();
+  }
+
+  /**
+   * Markiert das Feld eines Tipps und wählt es aus. Die Markierung verschwindet mit der nächsten Eingabe in dem Feld.
+   *
+   * @param row Die Reihe, -1 zum Entfernen der Markierung.
+   * @param column Die Spalte.
+   */
+  void setHint(int row, int column) {
+    this.hintCell = row < 0 ? -1 : row * this.geometry.size + column;
+    if (this.hintCell >= 0) {
+      this.select(this.hintCell);
+      this.requestFocusInWindow();
+    }
+    this.repaint();
+  }
+
+  /**
+   * @return True solange ein Tipp markiert ist.
+   */
+  boolean hasHint() {
+    return this.hintCell >= 0;
+  }
+
+  /**
+   * Schaltet die Notizen in den leeren Feldern ein oder aus.
+   *
+   * @param showPencilMarks True zum Anzeigen.
+   */
+  void setShowPencilMarks(boolean showPencilMarks) {
+    this.showPencilMarks = showPencilMarks;
+    this.repaint();
+  }
+
+  void addChangeListener(ChangeListener listener) {
+    this.listenerList.add(ChangeListener.class, listener);
+  }
+
+  void removeChangeListener(ChangeListener listener) {
+    this.listenerList.remove(ChangeListener.class, listener);
+  }
+
+  private void fireStateChanged() {
+    ChangeEvent event = new ChangeEvent(this);
+    for (ChangeListener listener : this.listenerList.getListeners(ChangeListener.class)) {
+      listener.stateChanged(event);
+    }
+  }
+
+  /**
+   * Setzt oder löscht eine Zahl im Feld, Vorgaben bleiben unverändert.
+   *
+   * @param cell Das Feld.
+   * @param number Die Zahl, 0 zum Löschen.
+   */
+  private void setValue(int cell, int number) {
+    // Ohne Änderung gibt es weder ein Event noch wird gezeichnet.
+    if (this.givens[cell] || !this.candidateBoard.set(cell, number)) {
+      return;
+    }
+    this.wrong[cell] = false;
+    if (cell == this.hintCell) {
+      this.hintCell = -1;
+    }
+    int row = this.geometry.rowOf[cell];
+    int column = this.geometry.columnOf[cell];
+    this.sudokuMatrix[row][column] = number;
+    int blockSize = this.geometry.blockSize;
+    this.paintCells(row, 0, 1, this.geometry.size);
+    this.paintCells(0, column, this.geometry.size, 1);
+    this.paintCells(row - row % blockSize, column - column % blockSize, blockSize, blockSize);
+    this.fireStateChanged();
+  }
+
+  private void select(int cell) {
+    if (this.selected != cell) {
+      int oldSelected = this.selected;
+      this.selected = cell;
+      this.typedCell = -1;
+      this.paintCells(this.geometry.rowOf[oldSelected], this.geometry.columnOf[oldSelected], 1, 1);
+      this.paintCells(this.geometry.rowOf[cell], this.geometry.columnOf[cell], 1, 1);
+    }
+  }
+
+  /**
+   * Zeichnet sofort nur die Felder im Rechteck neu. Mehrere repaint(x, y, w, h) würde der RepaintManager zu einem umschließenden Rechteck vereinen, aus Reihe
+   * und Spalte eines Feldes würde so wieder das ganze Board.
+   *
+   * @param row Die erste Reihe.
+   * @param column Die erste Spalte.
+   * @param rows Die Anzahl der Reihen.
+   * @param columns Die Anzahl der Spalten.
+   */
+  private void paintCells(int row, int column, int rows, int columns) {
+    int cellSize = this.cellSize();
+    // Ein Pixel mehr für die Linie am rechten und unteren Rand.
+    this.paintImmediately(column * cellSize, row * cellSize, columns * cellSize + 1, rows * cellSize + 1);
+  }
+
+  private void handleKey(KeyEvent e) {
+    int row = this.geometry.rowOf[this.selected];
+    int column = this.geometry.columnOf[this.selected];
+    int size = this.geometry.size;
+    switch (e.getKeyCode()) {
+      case KeyEvent.VK_UP:
+        row = (row + size - 1) % size;
+        break;
+      case KeyEvent.VK_DOWN:
+        row = (row + 1) % size;
+        break;
+      case KeyEvent.VK_LEFT:
+        column = (column + size - 1) % size;
+        break;
+      case KeyEvent.VK_RIGHT:
+        column = (column + 1) % size;
+        break;
+      case KeyEvent.VK_DELETE:
+      case KeyEvent.VK_BACK_SPACE:
+        this.typedCell = -1;
+        this.setValue(this.selected, 0);
+        return;
+      default:
+        return;
+    }
+    e.consume();
+    this.select(row * size + column);
+  }
+
+  /**
+   * Trägt eine Ziffer ein. Folgt sie im selben Feld auf eine andere und bleibt die Zahl höchstens size, wird sie angehängt, so sind auch zweistellige Zahlen
+   * möglich.
+   *
+   * @param digit Die Ziffer, 0 allein löscht das Feld.
+   */
+  private void typeDigit(int digit) {
+    int cell = this.selected;
+    int number = digit;
+    if (this.typedCell == cell) {
+      int extended = this.candidateBoard.get(cell) * 10 + digit;
+      if (extended <= this.geometry.size) {
+        number = extended;
+      }
+    }
+    this.typedCell = number != 0 && number * 10 <= this.geometry.size ? cell : -1;
+    if (number <= this.geometry.size) {
+      this.setValue(cell, number);
+    }
+  }
+
+  /**
+   * @return Die Kantenlänge eines Feldes in Pixeln.
+   */
+  private int cellSize() {
+    return Math.max(1, Math.min(this.getWidth(), this.getHeight()) / this.geometry.size);
+  }
+
+  /**
+   * @return Das Feld an der Position, -1 außerhalb des Spielfelds.
+   */
+  private int cellAt(int x, int y) {
+    int cellSize = this.cellSize();
+    int row = y / cellSize;
+    int column = x / cellSize;
+    if (x < 0 || y < 0 || row >= this.geometry.size || column >= this.geometry.size) {
+      return -1;
+    }
+    return row * this.geometry.size + column;
+  }
+
+  @Override
+  public Dimension getPreferredSize() {
+    return new Dimension(this.geometry.size * CELL_SIZE, this.geometry.size * CELL_SIZE);
+  }
+
+  @Override
+  protected void paintComponent(Graphics g) {
+    int size = this.geometry.size;
+    int blockSize = this.geometry.blockSize;
+    int cellSize = this.cellSize();
+    int boardSize = cellSize * size;
+    Graphics2D g2 = (Graphics2D) g.create();
+    g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    g2.setColor(this.getParent() != null ? this.getParent().getBackground() : BACKGROUND_COLOR);
+    g2.fillRect(0, 0, this.getWidth(), this.getHeight());
+    g2.setColor(BACKGROUND_COLOR);
+    g2.fillRect(0, 0, boardSize, boardSize);
+
+    // Die Schrift wird mit den Feldern kleiner, damit auch zweistellige Zahlen passen.
+    int valueFontSize = Math.max(1, cellSize * (size > 9 ? 45 : 60) / 100);
+    if (this.valueFont == null || this.valueFont.getSize() != valueFontSize) {
+      this.valueFont = new Font("SansSerif", Font.BOLD, valueFontSize);
+    }
+    int pencilMarkFontSize = (int) (cellSize / (float) blockSize * 0.8f);
+    if (this.pencilMarkFont == null || this.pencilMarkFont.getSize() != pencilMarkFontSize) {
+      this.pencilMarkFont = new Font("SansSerif", Font.PLAIN, Math.max(1, pencilMarkFontSize));
+    }
+    // Wird nur ein Teil neu gezeichnet, z.B. nach dem Verdecken durch ein anderes Fenster, genügen die Felder darin.
+    Rectangle clip = g2.getClipBounds();
+    for (int cell = 0; cell < this.geometry.cells; cell++) {
+      int x = this.geometry.columnOf[cell] * cellSize;
+      int y = this.geometry.rowOf[cell] * cellSize;
+      if (clip == null || clip.intersects(x, y, cellSize, cellSize)) {
+        this.paintCell(g2, cell, x, y, cellSize, pencilMarkFontSize >= MIN_PENCIL_MARK_FONT_SIZE);
+      }
+    }
+
+    g2.setColor(GRID_COLOR);
+    for (int i = 1; i < size; i++) {
+      if (i % blockSize != 0) {
+        g2.drawLine(i * cellSize, 0, i * cellSize, boardSize);
+        g2.drawLine(0, i * cellSize, boardSize, i * cellSize);
+      }
+    }
+    g2.setColor(BLOCK_COLOR);
+    g2.setStroke(new BasicStroke(2));
+    for (int i = 0; i <= size; i += blockSize) {
+      int position = Math.min(i * cellSize, boardSize - 1);
+      g2.drawLine(position, 0, position, boardSize);
+      g2.drawLine(0, position, boardSize, position);
+    }
+    g2.dispose();
+  }
+
+  private void paintCell(Graphics2D g2, int cell, int x, int y, int cellSize, boolean pencilMarksReadable) {
+    if (cell == this.hintCell) {
+      g2.setColor(HINT_COLOR);
+      g2.fillRect(x, y, cellSize, cellSize);
+    } else if (cell == this.selected) {
+      g2.setColor(SELECTION_COLOR);
+      g2.fillRect(x, y, cellSize, cellSize);
+    }
+    int number = this.candidateBoard.get(cell);
+    if (number != 0) {
+      if (this.candidateBoard.isConflict(cell)) {
+        g2.setColor(CONFLICT_COLOR);
+        g2.drawRect(x + 2, y + 2, cellSize - 5, cellSize - 5);
+        g2.drawRect(x + 3, y + 3, cellSize - 7, cellSize - 7);
+      }
+      g2.setFont(this.valueFont);
+      g2.setColor(this.wrong[cell] ? WRONG_COLOR : this.givens[cell] ? GIVEN_COLOR : ENTRY_COLOR);
+      this.drawCentered(g2, Integer.toString(number), x, y, cellSize, cellSize);
+      return;
+    }
+    int marks = this.showPencilMarks ? this.candidateBoard.candidates(cell) : 0;
+    if (marks == 0 || !pencilMarksReadable) {
+      return;
+    }
+    // Notizen werden in einem Raster von blockSize * blockSize angeordnet, wie die Felder eines Blocks.
+    int blockSize = this.geometry.blockSize;
+    float markSize = (float) cellSize / blockSize;
+    g2.setFont(this.pencilMarkFont);
+    g2.setColor(PENCIL_MARK_COLOR);
+    while (marks != 0) {
+      int mark = Integer.numberOfTrailingZeros(marks);
+      marks &= marks - 1;
+      int position = mark - 1;
+      this.drawCentered(g2, Integer.toString(mark), x + (position % blockSize) * markSize, y + (position / blockSize) * markSize, markSize, markSize);
+    }
+  }
+
+  private void drawCentered(Graphics2D g2, String text, float x, float y, float width, float height) {
+    FontMetrics metrics = g2.getFontMetrics();
+    g2.drawString(text, x + (width - metrics.stringWidth(text)) / 2, y + (height + metrics.getAscent() - metrics.getDescent()) / 2);
+  }
+}
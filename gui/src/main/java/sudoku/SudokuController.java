@@ -0,0 +1,188 @@
+package sudoku;
+
+import javax.swing.*;
+import java.awt.event.*;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+public class SudokuController implements ActionListener, ItemListener, ChangeListener {
+
+  static final String EASY_STR = "Einfach";
+  static final String NORMAL_STR = "Normal";
+  static final String HARD_STR = "Schwer";
+
+  static final String BUTTON_START = "Start";
+  static final String BUTTON_CHECK = "Prüfen";
+  static final String BUTTON_HINT = "Tipp";
+
+  // Client-Property der Menüeinträge für die Größe.
+  static final String SIZE_PROPERTY = "size";
+
+  private static SudokuGUI gui;
+  private static String solverEngine = Sudoku.DEFAULT_SOLVER;
+  private static SudokuPool pool;
+  private int difficulty = Sudoku.NORMAL;
+  private int size = Sudoku.DEFAULT_SIZE;
+  // Die gerade laufende Erzeugung, nur im EDT verwendet.
+  private GenerationWorker worker;
+  // Hält den Spielstand zwischen zwei Klicks auf Tipp, nur im EDT verwendet.
+  private final SudokuHintEngine hintEngine = new SudokuHintEngine();
+
+  /**
+   * Main
+   *
+   * @param args Die Optionen wie bei SudokuCli.parse(). Mit --solve-file, --serve oder --load-test läuft das Programm ohne GUI, sonst startet die GUI mit
+   *     --solver und den Grenzen für den Vorrat.
+   */
+  public static void main(String[] args) throws IOException {
+    SudokuCli cli = SudokuCli.parse(args);
+    if (cli.runHeadless()) {
+      return;
+    }
+    solverEngine = cli.getSolverEngine();
+    pool = cli.startPool();
+    gui = new SudokuGUI();
+  }
+
+  /**
+   * Clickhandler Buttons
+   *
+   * @param e Event
+   */
+  @Override
+  public void actionPerformed(ActionEvent e) {
+    switch (e.getActionCommand()) {
+      case SudokuController.BUTTON_START:
+        // Ein erneuter Klick ersetzt die laufende Erzeugung statt sich dahinter einzureihen.
+        this.cancelGeneration();
+        // Der Vorrat hält nur Sudokus der Standardgröße bereit.
+        GeneratedSudoku sudoku = this.size == Sudoku.DEFAULT_SIZE ? pool.poll(this.difficulty) : null;
+        if (sudoku != null) {
+          this.showSudoku(sudoku);
+        } else {
+          this.worker = new GenerationWorker(this.difficulty, this.size);
+          this.worker.execute();
+        }
+        break;
+      case SudokuController.BUTTON_CHECK:
+        if (gui.validateSudoku()) {
+          JOptionPane.showMessageDialog(new JFrame(), "Sudoku gelöst!");
+        }
+        break;
+      case SudokuController.BUTTON_HINT:
+        gui.showHint(this.hintEngine.next(gui.getSudokuMatrix()));
+        break;
+    }
+  }
+
+  /**
+   * Bricht eine laufende Erzeugung ab.
+   */
+  private void cancelGeneration() {
+    if (this.worker != null) {
+      this.worker.cancel(true);
+      this.worker = null;
+      gui.setStatus("");
+    }
+  }
+
+  /**
+   * Übergibt ein fertiges Sudoku an die GUI.
+   *
+   * @param sudoku Das Sudoku.
+   */
+  private void showSudoku(GeneratedSudoku sudoku) {
+    gui.setSudokuMatrixSolution(sudoku.getSudokuMatrixSolution());
+    gui.setSudokuMatrix(sudoku.getSudokuMatrix());
+    gui.setStatus("");
+  }
+
+  /**
+   * Erzeugt ein Sudoku im Hintergrund und meldet dabei Versuch und entfernte Zahlen an die GUI.
+   */
+  private class GenerationWorker extends SwingWorker<GeneratedSudoku, int[]> {
+
+    private final int difficulty;
+    private final int size;
+
+    GenerationWorker(int difficulty, int size) {
+      this.difficulty = difficulty;
+      this.size = size;
+    }
+
+    @Override
+    protected GeneratedSudoku doInBackground() {
+      // Backtracking kommt ab 16 * 16 Feldern nicht mehr in vertretbarer Zeit zum Ende.
+      String engine = this.size > Sudoku.DEFAULT_SIZE ? Sudoku.SOLVER_DLX : solverEngine;
+      return SudokuGenerator.generate(this.difficulty, engine, this.size, (attempt, removed) -> this.publish(new int[]{attempt, removed}));
+    }
+
+    @Override
+    protected void process(List<int[]> chunks) {
+      if (worker != this) {
+        return;
+      }
+      // Nur der neueste Stand ist interessant.
+      int[] progress = chunks.get(chunks.size() - 1);
+      gui.setStatus("Versuch " + progress[0] + ": " + progress[1] + " Zahlen entfernt");
+    }
+
+    @Override
+    protected void done() {
+      // Abgebrochen oder bereits durch eine neuere Erzeugung ersetzt.
+      if (this.isCancelled() || worker != this) {
+        return;
+      }
+      worker = null;
+      try {
+        showSudoku(this.get());
+      } catch (InterruptedException | ExecutionException ex) {
+        gui.setStatus("");
+        System.err.println(ex.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Handler für die Radiobuttons
+   *
+   * @param e Event
+   */
+  public void itemStateChanged(ItemEvent e) {
+    if (e.getStateChange() == ItemEvent.SELECTED) {
+      this.cancelGeneration();
+      Object size = ((JRadioButtonMenuItem) e.getItem()).getClientProperty(SIZE_PROPERTY);
+      if (size != null) {
+        this.size = (int) size;
+        gui.setBoardSize(this.size);
+        return;
+      }
+      switch (((JRadioButtonMenuItem) e.getItem()).getText()) {
+        case SudokuController.EASY_STR:
+          difficulty = Sudoku.EASY;
+          break;
+        case SudokuController.NORMAL_STR:
+          difficulty = Sudoku.NORMAL;
+          break;
+        case SudokuController.HARD_STR:
+          difficulty = Sudoku.HARD;
+          break;
+      }
+    }
+  }
+
+  /**
+   * Wird nach jeder Änderung auf dem Spielfeld ausgelöst, einmal je Eingabe bzw. neuem Sudoku.
+   *
+   * @param e Event
+   */
+  public void stateChanged(ChangeEvent e) {
+    // Das Board meldet sich schon beim Aufbau der GUI, bevor sie zugewiesen ist.
+    if (gui != null) {
+      gui.boardChanged();
+    }
+  }
+}
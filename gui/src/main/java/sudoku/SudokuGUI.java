@@ -0,0 +1,217 @@
+package sudoku;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import javax.swing.UIManager.LookAndFeelInfo;
+
+class SudokuGUI {
+
+  private int[][] sudokuMatrixSolution;
+  private SudokuController sudoku = new SudokuController();
+  private JLabel statusLabel = new JLabel();
+  private JFrame window;
+  private SudokuBoard board;
+  // True solange die Statuszeile einen Tipp nennt, der auf dem Board noch markiert ist.
+  private boolean hintShown;
+  private boolean showPencilMarks = true;
+
+
+  SudokuGUI() {
+    this.initGUI();
+    this.setBoardSize(Sudoku.DEFAULT_SIZE);
+  }
+
+  /**
+   * Stellt das Spielfeld auf eine neue Größe um, das alte Sudoku wird verworfen.
+   *
+   * @param size Die Anzahl der Reihen.
+   */
+  void setBoardSize(int size) {
+    this.sudokuMatrixSolution = new int[size][size];
+    this.hintShown = false;
+    this.board.setBoardSize(size);
+    int windowSize = Math.max(400, size * 36);
+    this.window.setSize(windowSize, windowSize);
+    this.window.validate();
+  }
+
+  /**
+   * Zeigt einen Statustext in der Menüleiste an.
+   *
+   * @param status Der Text, leer zum Ausblenden.
+   */
+  void setStatus(String status) {
+    this.statusLabel.setText(status);
+  }
+
+  /**
+   * Setzt die Lösunge des Sudokus als Matrix.
+   *
+   * @param sudokuMatrixSolution die Lösungsmatrix.
+   */
+  public void setSudokuMatrixSolution(int[][] sudokuMatrixSolution) {
+    this.sudokuMatrixSolution = sudokuMatrixSolution;
+  }
+
+  /**
+   * Setzt die Sudokumatrix. Das Board übernimmt alle Felder auf einmal und zeichnet sich danach einmal neu.
+   *
+   * @param sudokuMatrix Die Sudokumatrix.
+   */
+  void setSudokuMatrix(int[][] sudokuMatrix) {
+    this.board.setSudokuMatrix(sudokuMatrix);
+    this.board.requestFocusInWindow();
+  }
+
+  /**
+   * Gibt den aktuellen Spielstand zurück, leere Felder sind 0.
+   *
+   * @return Die Sudokumatrix.
+   */
+  int[][] getSudokuMatrix() {
+    return this.board.getSudokuMatrix();
+  }
+
+  /**
+   * Markiert das Feld eines Tipps und nennt Zahl und Technik in der Statuszeile. Die Markierung verschwindet mit der nächsten Eingabe in dem Feld.
+   *
+   * @param hint Der Tipp, null wenn keiner gefunden wurde.
+   */
+  void showHint(SudokuHint hint) {
+    if (hint == null) {
+      this.board.setHint(-1, -1);
+      this.hintShown = false;
+      this.setStatus("Kein Tipp gefunden");
+      return;
+    }
+    this.board.setHint(hint.getRow(), hint.getColumn());
+    this.hintShown = true;
+    this.setStatus("Tipp: " + hint);
+  }
+
+  /**
+   * Wird nach jeder Änderung auf dem Board aufgerufen, einmal je Eingabe bzw. neuem Sudoku.
+   */
+  void boardChanged() {
+    // Die Eingabe im markierten Feld hat den Tipp erledigt.
+    if (this.hintShown && !this.board.hasHint()) {
+      this.hintShown = false;
+      this.setStatus("");
+    }
+  }
+
+  /**
+   * Vergleich die Eingegebenen Zahlen mit der Lösung und markiert falsche Zahlen.
+   *
+   * @return True wenn das Sudoku gelöst wurde sonst False.
+   */
+  public boolean validateSudoku() {
+    // Voll und ohne Konflikte ist das Sudoku gelöst, da es nur eine Lösung hat.
+    if (this.board.isSolved()) {
+      return true;
+    }
+    this.board.markWrong(this.sudokuMatrixSolution);
+    return false;
+  }
+
+  /**
+   * Schaltet die Notizen in den leeren Feldern ein oder aus.
+   *
+   * @param showPencilMarks True zum Anzeigen.
+   */
+  void setShowPencilMarks(boolean showPencilMarks) {
+    this.showPencilMarks = showPencilMarks;
+    this.board.setShowPencilMarks(showPencilMarks);
+  }
+
+  /**
+   * Inizalisiert die GUI-Elemente.
+   */
+  private void initGUI() {
+    // Nimbus als LookAndFeel
+    try {
+      for (LookAndFeelInfo info : UIManager.getInstalledLookAndFeels()) {
+        if ("Nimbus".equals(info.getName())) {
+          UIManager.setLookAndFeel(info.getClassName());
+          JFrame.setDefaultLookAndFeelDecorated(true);
+          break;
+        }
+      }
+    } catch (Exception e) {
+      JFrame.setDefaultLookAndFeelDecorated(false);
+    }
+
+    window = new JFrame("Sudoku");
+    // Menü
+    JMenuBar menuBar = new JMenuBar();
+    // Start Button
+    JButton startButton = new JButton(SudokuController.BUTTON_START);
+    startButton.addActionListener(sudoku);
+    menuBar.add(startButton);
+    // Check Button
+    JButton checkButton = new JButton(SudokuController.BUTTON_CHECK);
+    checkButton.addActionListener(sudoku);
+    menuBar.add(checkButton);
+    // Hint Button
+    JButton hintButton = new JButton(SudokuController.BUTTON_HINT);
+    hintButton.addActionListener(sudoku);
+    menuBar.add(hintButton);
+
+    JMenu menu = new JMenu("Einstellungen");
+    menuBar.add(menu);
+    JMenu submenu = new JMenu("Schwirigkeit");
+    ButtonGroup group = new ButtonGroup();
+
+    JRadioButtonMenuItem rbEasyMenuItem = new JRadioButtonMenuItem(SudokuController.EASY_STR);
+    rbEasyMenuItem.setSelected(true);
+    rbEasyMenuItem.setMnemonic(KeyEvent.VK_R);
+    group.add(rbEasyMenuItem);
+    rbEasyMenuItem.addItemListener(sudoku);
+    submenu.add(rbEasyMenuItem);
+
+    JRadioButtonMenuItem rbNormalMenuItem = new JRadioButtonMenuItem(SudokuController.NORMAL_STR);
+    rbNormalMenuItem.setMnemonic(KeyEvent.VK_O);
+    group.add(rbNormalMenuItem);
+    rbNormalMenuItem.addItemListener(sudoku);
+    rbNormalMenuItem.setSelected(true);
+    submenu.add(rbNormalMenuItem);
+
+    JRadioButtonMenuItem rbHardMenuItem = new JRadioButtonMenuItem(SudokuController.HARD_STR);
+    rbHardMenuItem.setMnemonic(KeyEvent.VK_O);
+    group.add(rbHardMenuItem);
+    rbHardMenuItem.addItemListener(sudoku);
+    submenu.add(rbHardMenuItem);
+
+    menu.add(submenu);
+
+    JMenu sizeMenu = new JMenu("Größe");
+    ButtonGroup sizeGroup = new ButtonGroup();
+    for (int size : Sudoku.SIZES) {
+      JRadioButtonMenuItem sizeMenuItem = new JRadioButtonMenuItem(size + " x " + size);
+      sizeMenuItem.putClientProperty(SudokuController.SIZE_PROPERTY, size);
+      sizeMenuItem.setSelected(size == Sudoku.DEFAULT_SIZE);
+      sizeGroup.add(sizeMenuItem);
+      sizeMenuItem.addItemListener(sudoku);
+      sizeMenu.add(sizeMenuItem);
+    }
+    menu.add(sizeMenu);
+
+    JCheckBoxMenuItem pencilMarksMenuItem = new JCheckBoxMenuItem("Notizen anzeigen", this.showPencilMarks);
+    pencilMarksMenuItem.addItemListener(e -> this.setShowPencilMarks(pencilMarksMenuItem.isSelected()));
+    menu.add(pencilMarksMenuItem);
+
+    // Status der Erzeugung rechts in der Menüleiste.
+    menuBar.add(Box.createHorizontalGlue());
+    menuBar.add(statusLabel);
+
+    this.board = new SudokuBoard(Sudoku.DEFAULT_SIZE);
+    this.board.addChangeListener(sudoku);
+    window.add(this.board);
+
+    window.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+    window.setSize(400, 400);
+    window.setJMenuBar(menuBar);
+    window.setVisible(true);
+  }
+}